@@ -4,7 +4,12 @@ import org.people.application.dto.PeopleResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface PeopleService {
 	Mono<PeopleResponse> getById(Integer id);
+	Mono<PeopleResponse> getByEmail(String email);
+	Flux<PeopleResponse> getByIds(Collection<Integer> ids);
 	Flux<PeopleResponse> listAll();
+	Flux<PeopleResponse> search(String query, int limit);
 }
@@ -7,6 +7,8 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class PeopleServiceImpl implements PeopleService {
@@ -18,8 +20,23 @@ public class PeopleServiceImpl implements PeopleService {
 		return peopleRepository.findById(id);
 	}
 
+	@Override
+	public Mono<PeopleResponse> getByEmail(String email) {
+		return peopleRepository.findByEmail(email);
+	}
+
+	@Override
+	public Flux<PeopleResponse> getByIds(Collection<Integer> ids) {
+		return peopleRepository.findByIds(ids);
+	}
+
 	@Override
 	public Flux<PeopleResponse> listAll() {
 		return peopleRepository.findAll();
 	}
+
+	@Override
+	public Flux<PeopleResponse> search(String query, int limit) {
+		return peopleRepository.search(query, limit);
+	}
 }
@@ -5,7 +5,10 @@ import org.people.domain.entity.People;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface PeopleClient {
 	Mono<PeopleResponse> findById(Integer id);
+	Flux<PeopleResponse> findByIds(Collection<Integer> ids);
 	Flux<PeopleResponse> listAll();
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package org.people.domain.enums;
+
+public enum ServingMode {
+	REMOTE,
+	SNAPSHOT
+}
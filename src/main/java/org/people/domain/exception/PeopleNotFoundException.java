@@ -23,6 +23,13 @@ public class PeopleNotFoundException extends PeopleException {
         super(message, DEFAULT_CODE, cause);
     }
 
+    /**
+     * Lookup by email found nobody. The email is left out of the message, which reaches logs and clients.
+     */
+    public static PeopleNotFoundException forEmail() {
+        return new PeopleNotFoundException("People with the given email not found");
+    }
+
     @Override
     public int getStatusCode() {
         return STATUS_CODE;
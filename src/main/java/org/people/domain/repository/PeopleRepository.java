@@ -4,7 +4,12 @@ import org.people.application.dto.PeopleResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface PeopleRepository {
 	Mono<PeopleResponse> findById(Integer id);
+	Mono<PeopleResponse> findByEmail(String email);
+	Flux<PeopleResponse> findByIds(Collection<Integer> ids);
 	Flux<PeopleResponse> findAll();
+	Flux<PeopleResponse> search(String query, int limit);
 }
\ No newline at end of file
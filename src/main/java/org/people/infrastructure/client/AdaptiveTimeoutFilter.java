@@ -0,0 +1,122 @@
+package org.people.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.infrastructure.exception.ExternalServiceException;
+import org.people.infrastructure.logging.Logger;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.time.Duration;
+
+/**
+ * Response timeout for one upstream. In adaptive mode it follows the upstream's own latency:
+ * a chosen percentile of recent exchanges times {@code factor}, clamped to {@code [min, max]}.
+ * Only answered exchanges feed the estimate; timed-out ones are counted separately, since
+ * recording them at the timeout value would ratchet the timeout up to {@code max}. Instead,
+ * while more than {@code 1 - percentile} of recent calls time out, {@code max} applies, so an
+ * upstream that became permanently slower answers again and refills the window with its new
+ * latencies. Static mode always uses {@code staticTimeout}, which is also the adaptive value
+ * until enough samples exist.
+ */
+public class AdaptiveTimeoutFilter implements ExchangeFilterFunction {
+
+	private static final Logger logger = Logger.getLogger(AdaptiveTimeoutFilter.class);
+	private static final int MIN_SAMPLES = 50;
+	private static final double TIMEOUT_RATE_ALPHA = 0.05;
+
+	private final String serviceName;
+	private final boolean adaptive;
+	private final Duration staticTimeout;
+	private final double percentile;
+	private final double factor;
+	private final Duration min;
+	private final Duration max;
+	private final LatencyTracker latency = new LatencyTracker(1024, Duration.ofSeconds(1));
+	private final Counter timedOut;
+	private volatile double timeoutRate;
+
+	public AdaptiveTimeoutFilter(String dataSource,
+								 String serviceName,
+								 boolean adaptive,
+								 Duration staticTimeout,
+								 double percentile,
+								 double factor,
+								 Duration min,
+								 Duration max,
+								 MeterRegistry meterRegistry) {
+		this.serviceName = serviceName;
+		this.adaptive = adaptive;
+		this.staticTimeout = staticTimeout;
+		this.percentile = percentile;
+		this.factor = factor;
+		this.min = min;
+		this.max = max;
+
+		Gauge.builder("people.client.timeout", this, filter -> filter.currentTimeout().toNanos() / 1e9)
+				.description("Response timeout currently applied to upstream requests")
+				.baseUnit("seconds")
+				.tag("datasource", dataSource)
+				.tag("mode", adaptive ? "adaptive" : "static")
+				.register(meterRegistry);
+		this.timedOut = Counter.builder("people.client.timeout.expired")
+				.description("Upstream requests cut off by the response timeout")
+				.tag("datasource", dataSource)
+				.tag("mode", adaptive ? "adaptive" : "static")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		return Mono.defer(() -> {
+			Duration timeout = currentTimeout();
+			// the native timeout also bounds each read of the body after the headers arrived
+			ClientRequest bounded = ClientRequest.from(request)
+					.httpRequest(httpRequest -> {
+						if (httpRequest.getNativeRequest() instanceof HttpClientRequest nativeRequest) {
+							nativeRequest.responseTimeout(timeout);
+						}
+					})
+					.build();
+			long start = System.nanoTime();
+			return next.exchange(bounded)
+					.doOnNext(response -> {
+						latency.record(System.nanoTime() - start);
+						observeTimeout(false);
+					})
+					.timeout(timeout, Mono.error(() -> {
+						timedOut.increment();
+						observeTimeout(true);
+						logger.warn("Upstream response timed out - service: {}, url: {}, timeout: {}ms",
+								serviceName, request.url(), timeout.toMillis());
+						return new ExternalServiceException(String.format("No response within %dms from %s",
+								timeout.toMillis(), request.url()), serviceName);
+					}));
+		});
+	}
+
+	public Duration currentTimeout() {
+		if (!adaptive || latency.sampleCount() < MIN_SAMPLES) {
+			return staticTimeout;
+		}
+		if (timeoutRate > 1 - percentile) {
+			// the window no longer describes the upstream; give it room to answer
+			return max;
+		}
+		Duration observed = latency.percentile(percentile);
+		if (observed == null) {
+			return staticTimeout;
+		}
+		long nanos = (long) (observed.toNanos() * factor);
+		return Duration.ofNanos(Math.max(min.toNanos(), Math.min(max.toNanos(), nanos)));
+	}
+
+	private synchronized void observeTimeout(boolean expired) {
+		timeoutRate = timeoutRate * (1 - TIMEOUT_RATE_ALPHA) + (expired ? TIMEOUT_RATE_ALPHA : 0);
+	}
+}
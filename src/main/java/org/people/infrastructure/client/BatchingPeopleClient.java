@@ -0,0 +1,216 @@
+package org.people.infrastructure.client;
+
+import io.grpc.Deadline;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.application.dto.PeopleResponse;
+import org.people.domain.client.PeopleClient;
+import org.people.domain.exception.PeopleNotFoundException;
+import org.people.infrastructure.context.GrpcDeadlineContext;
+import org.people.infrastructure.logging.Logger;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataLoader-style micro-batching for {@link PeopleClient#findById}: ids requested within
+ * {@code window} (or until {@code maxBatchSize} ids are queued) are resolved with a single
+ * {@link PeopleClient#findByIds} call and handed back to the individual callers.
+ * <p>
+ * A caller that cancels before its batch is sent leaves the batch; once every caller of a sent
+ * batch has cancelled, the upstream call is disposed. The call runs under the subscriber context
+ * of the waiter with the latest gRPC deadline (or of one without a deadline), so it outlives
+ * every waiter and keeps that waiter's request id.
+ */
+public class BatchingPeopleClient implements PeopleClient {
+
+	private static final Logger logger = Logger.getLogger(BatchingPeopleClient.class);
+
+	private final PeopleClient delegate;
+	private final Duration window;
+	private final int maxBatchSize;
+	private final DistributionSummary batchSizeSummary;
+	private final Scheduler scheduler = Schedulers.parallel();
+
+	private final Object lock = new Object();
+	private Batch currentBatch = new Batch();
+
+	public BatchingPeopleClient(PeopleClient delegate,
+								Duration window,
+								int maxBatchSize,
+								MeterRegistry meterRegistry,
+								String dataSource) {
+		this.delegate = delegate;
+		this.window = window;
+		this.maxBatchSize = maxBatchSize;
+		this.batchSizeSummary = DistributionSummary.builder("people.client.batch.size")
+				.description("Distinct ids resolved per micro-batch")
+				.tag("datasource", dataSource)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	@Override
+	public Mono<PeopleResponse> findById(Integer id) {
+		return Mono.create(sink -> {
+			PendingRequest request = new PendingRequest(id, sink);
+			sink.onCancel(() -> cancel(request));
+			enqueue(request);
+		});
+	}
+
+	@Override
+	public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+		return delegate.findByIds(ids);
+	}
+
+	@Override
+	public Flux<PeopleResponse> listAll() {
+		return delegate.listAll();
+	}
+
+	private void enqueue(PendingRequest request) {
+		Batch full = null;
+		boolean first;
+
+		synchronized (lock) {
+			first = currentBatch.requests.isEmpty();
+			request.batch = currentBatch;
+			currentBatch.requests.add(request);
+			if (currentBatch.requests.size() >= maxBatchSize) {
+				full = takeCurrentBatch();
+			}
+		}
+
+		if (full != null) {
+			dispatch(full);
+		} else if (first) {
+			scheduler.schedule(this::flushWindow, window.toNanos(), TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void flushWindow() {
+		Batch batch;
+		synchronized (lock) {
+			if (currentBatch.requests.isEmpty()) {
+				return;
+			}
+			batch = takeCurrentBatch();
+		}
+		dispatch(batch);
+	}
+
+	// guarded by lock
+	private Batch takeCurrentBatch() {
+		Batch batch = currentBatch;
+		batch.waiting = batch.requests.size();
+		currentBatch = new Batch();
+		return batch;
+	}
+
+	private void cancel(PendingRequest request) {
+		Batch batch;
+		synchronized (lock) {
+			batch = request.batch;
+			if (batch == null) {
+				return;
+			}
+			if (batch == currentBatch) {
+				batch.requests.remove(request);
+				return;
+			}
+			if (--batch.waiting > 0) {
+				return;
+			}
+		}
+		batch.call.dispose();
+	}
+
+	private void dispatch(Batch batch) {
+		Map<Integer, List<MonoSink<PeopleResponse>>> waiters = new LinkedHashMap<>();
+		for (PendingRequest request : batch.requests) {
+			waiters.computeIfAbsent(request.id(), key -> new ArrayList<>()).add(request.sink());
+		}
+		batchSizeSummary.record(waiters.size());
+
+		batch.call.update(delegate.findByIds(waiters.keySet())
+				.collectMap(PeopleResponse::getId)
+				.contextWrite(batchContext(batch.requests))
+				.subscribe(found -> waiters.forEach((id, sinks) -> {
+					PeopleResponse people = found.get(id);
+					for (MonoSink<PeopleResponse> sink : sinks) {
+						if (people != null) {
+							sink.success(people);
+						} else {
+							sink.error(new PeopleNotFoundException(id));
+						}
+					}
+				}), error -> {
+					logger.warn("Micro-batch of {} ids failed: {}", waiters.size(), error.getMessage());
+					waiters.values().forEach(sinks -> sinks.forEach(sink -> sink.error(error)));
+				}));
+	}
+
+	private static ContextView batchContext(List<PendingRequest> requests) {
+		PendingRequest latest = null;
+		Deadline latestDeadline = null;
+		for (PendingRequest request : requests) {
+			Deadline deadline = request.context().<Deadline>getOrEmpty(GrpcDeadlineContext.DEADLINE_KEY).orElse(null);
+			if (deadline == null) {
+				return request.context();
+			}
+			if (latestDeadline == null || latestDeadline.isBefore(deadline)) {
+				latest = request;
+				latestDeadline = deadline;
+			}
+		}
+		return latest.context();
+	}
+
+	private static final class Batch {
+
+		// guarded by lock
+		private final List<PendingRequest> requests = new ArrayList<>();
+		// callers of a sent batch that have not cancelled, guarded by lock
+		private int waiting;
+		private final Disposable.Swap call = Disposables.swap();
+	}
+
+	private static final class PendingRequest {
+
+		private final Integer id;
+		private final MonoSink<PeopleResponse> sink;
+		// guarded by lock
+		private Batch batch;
+
+		private PendingRequest(Integer id, MonoSink<PeopleResponse> sink) {
+			this.id = id;
+			this.sink = sink;
+		}
+
+		Integer id() {
+			return id;
+		}
+
+		MonoSink<PeopleResponse> sink() {
+			return sink;
+		}
+
+		ContextView context() {
+			return sink.contextView();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package org.people.infrastructure.client;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.RequiredArgsConstructor;
+import org.people.application.dto.PeopleResponse;
+import org.people.domain.client.PeopleClient;
+import org.people.infrastructure.exception.ExternalServiceException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Guards a {@link PeopleClient} with a non-blocking circuit breaker. While the breaker is open,
+ * calls fail immediately with {@link ExternalServiceException} instead of waiting on the upstream.
+ */
+@RequiredArgsConstructor
+public class CircuitBreakingPeopleClient implements PeopleClient {
+
+	private final PeopleClient delegate;
+	private final CircuitBreaker circuitBreaker;
+	private final String serviceName;
+
+	@Override
+	public Mono<PeopleResponse> findById(Integer id) {
+		return delegate.findById(id)
+				.transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+				.onErrorMap(CallNotPermittedException.class, this::toExternalServiceException);
+	}
+
+	@Override
+	public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+		return delegate.findByIds(ids)
+				.transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+				.onErrorMap(CallNotPermittedException.class, this::toExternalServiceException);
+	}
+
+	@Override
+	public Flux<PeopleResponse> listAll() {
+		return delegate.listAll()
+				.transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+				.onErrorMap(CallNotPermittedException.class, this::toExternalServiceException);
+	}
+
+	private ExternalServiceException toExternalServiceException(CallNotPermittedException e) {
+		return new ExternalServiceException("Circuit breaker '" + circuitBreaker.getName() + "' is open",
+				serviceName, e);
+	}
+}
@@ -0,0 +1,143 @@
+package org.people.infrastructure.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * HTTP revalidation for one upstream. Responses carrying an {@code ETag} or
+ * {@code Last-Modified} validator are remembered together with their decoded values; the next
+ * request for the same key sends {@code If-None-Match} / {@code If-Modified-Since} and a
+ * {@code 304 Not Modified} replays the stored values without downloading or decoding a body.
+ * Entries are bounded by the total number of stored values.
+ */
+public class ConditionalCache {
+
+	private final boolean enabled;
+	private final Cache<String, Entry> entries;
+	private final Counter notModified;
+	private final Counter modified;
+	private final Counter bytesSaved;
+	private final Counter decodeTimeSaved;
+
+	public ConditionalCache(String dataSource, boolean enabled, long maximumValues, MeterRegistry meterRegistry) {
+		this.enabled = enabled;
+		this.entries = Caffeine.newBuilder()
+				.maximumWeight(maximumValues)
+				.<String, Entry>weigher((key, entry) -> entry.values().size() + 1)
+				.build();
+		this.notModified = requestCounter(meterRegistry, dataSource, "not_modified");
+		this.modified = requestCounter(meterRegistry, dataSource, "modified");
+		this.bytesSaved = Counter.builder("people.client.conditional.bytes.saved")
+				.description("Response body bytes not transferred thanks to 304 revalidation")
+				.baseUnit("bytes")
+				.tag("datasource", dataSource)
+				.register(meterRegistry);
+		this.decodeTimeSaved = Counter.builder("people.client.conditional.decode.time.saved")
+				.description("Body transfer and decode time avoided thanks to 304 revalidation")
+				.baseUnit("seconds")
+				.tag("datasource", dataSource)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Performs {@code request} with the stored validators of {@code key} and decodes its body
+	 * with {@code decode}, or replays the stored values when the upstream answers 304.
+	 */
+	public <T> Flux<T> fetch(String key,
+							 Function<Consumer<HttpHeaders>, Mono<ResponseEntity<Flux<DataBuffer>>>> request,
+							 Function<Flux<DataBuffer>, Flux<T>> decode) {
+		if (!enabled) {
+			return request.apply(headers -> { }).flatMapMany(entity -> decode.apply(entity.getBody()));
+		}
+
+		return Flux.defer(() -> {
+			Entry cached = entries.getIfPresent(key);
+			return request.apply(headers -> addValidators(headers, cached))
+					.flatMapMany(entity -> {
+						if (entity.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+							return replay(entity, cached);
+						}
+						return decodeAndStore(key, entity, decode);
+					});
+		});
+	}
+
+	/**
+	 * {@link #fetch} for a single-object body. The body is decoded to its end rather than
+	 * cancelled after the first value, so the entry is stored and the next call can revalidate.
+	 */
+	public <T> Mono<T> fetchOne(String key,
+								Function<Consumer<HttpHeaders>, Mono<ResponseEntity<Flux<DataBuffer>>>> request,
+								Function<Flux<DataBuffer>, Flux<T>> decode) {
+		return fetch(key, request, decode)
+				.collectList()
+				.mapNotNull(values -> values.isEmpty() ? null : values.get(0));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Flux<T> replay(ResponseEntity<Flux<DataBuffer>> entity, Entry cached) {
+		notModified.increment();
+		bytesSaved.increment(cached.bytes());
+		decodeTimeSaved.increment(cached.decodeNanos() / (double) TimeUnit.SECONDS.toNanos(1));
+		return entity.getBody()
+				.doOnNext(DataBufferUtils::release)
+				.thenMany(Flux.fromIterable((List<T>) cached.values()));
+	}
+
+	private <T> Flux<T> decodeAndStore(String key, ResponseEntity<Flux<DataBuffer>> entity,
+									   Function<Flux<DataBuffer>, Flux<T>> decode) {
+		modified.increment();
+		String etag = entity.getHeaders().getETag();
+		long lastModified = entity.getHeaders().getLastModified();
+		if (etag == null && lastModified < 0) {
+			return decode.apply(entity.getBody());
+		}
+
+		return Flux.defer(() -> {
+			AtomicLong bytes = new AtomicLong();
+			List<Object> values = new ArrayList<>();
+			long start = System.nanoTime();
+			return decode.apply(entity.getBody().doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount())))
+					.doOnNext(values::add)
+					.doOnComplete(() -> entries.put(key,
+							new Entry(etag, lastModified, List.copyOf(values), bytes.get(), System.nanoTime() - start)));
+		});
+	}
+
+	private void addValidators(HttpHeaders headers, Entry cached) {
+		if (cached == null) {
+			return;
+		}
+		if (cached.etag() != null) {
+			headers.setIfNoneMatch(cached.etag());
+		}
+		if (cached.lastModified() >= 0) {
+			headers.setIfModifiedSince(cached.lastModified());
+		}
+	}
+
+	private Counter requestCounter(MeterRegistry meterRegistry, String dataSource, String result) {
+		return Counter.builder("people.client.conditional.requests")
+				.tag("datasource", dataSource)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	private record Entry(String etag, long lastModified, List<Object> values, long bytes, long decodeNanos) {}
+}
@@ -0,0 +1,78 @@
+package org.people.infrastructure.client;
+
+import io.grpc.Deadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.infrastructure.context.GrpcDeadlineContext;
+import org.people.infrastructure.exception.DeadlineExceededException;
+import org.people.infrastructure.logging.Logger;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds each upstream exchange by the caller's remaining gRPC deadline. Requests are not sent
+ * once the deadline has passed, and an exchange still waiting for its response when the deadline
+ * expires is cancelled, which disposes the HTTP request and releases its pooled connection.
+ */
+public class DeadlineExchangeFilter implements ExchangeFilterFunction {
+
+	private static final Logger logger = Logger.getLogger(DeadlineExchangeFilter.class);
+
+	private final String serviceName;
+	private final Counter expiredBeforeSend;
+	private final Counter timedOut;
+	private final Counter callerCancelled;
+
+	public DeadlineExchangeFilter(String dataSource, String serviceName, MeterRegistry meterRegistry) {
+		this.serviceName = serviceName;
+		this.expiredBeforeSend = cancelledCounter(meterRegistry, dataSource, "expired_before_send");
+		this.timedOut = cancelledCounter(meterRegistry, dataSource, "timeout");
+		this.callerCancelled = cancelledCounter(meterRegistry, dataSource, "caller_cancelled");
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		return Mono.deferContextual(context -> {
+			Optional<Deadline> deadline = GrpcDeadlineContext.deadline(context);
+			if (deadline.isEmpty()) {
+				return next.exchange(request);
+			}
+
+			long remainingNanos = deadline.get().timeRemaining(TimeUnit.NANOSECONDS);
+			if (remainingNanos <= 0) {
+				expiredBeforeSend.increment();
+				return Mono.error(new DeadlineExceededException(
+						"Deadline exceeded before calling " + request.url(), serviceName));
+			}
+
+			return next.exchange(request)
+					.timeout(Duration.ofNanos(remainingNanos), Mono.error(() -> {
+						timedOut.increment();
+						logger.warn("Upstream call cancelled by gRPC deadline - service: {}, url: {}",
+								serviceName, request.url());
+						return new DeadlineExceededException("Deadline exceeded calling " + request.url(), serviceName);
+					}))
+					.doOnCancel(() -> {
+						// the gRPC call was cancelled, typically by its own deadline expiring
+						if (deadline.get().isExpired()) {
+							callerCancelled.increment();
+						}
+					});
+		});
+	}
+
+	private Counter cancelledCounter(MeterRegistry meterRegistry, String dataSource, String reason) {
+		return Counter.builder("people.client.deadline.cancelled")
+				.description("Upstream work abandoned because the caller's gRPC deadline was exceeded")
+				.tag("datasource", dataSource)
+				.tag("reason", reason)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,134 @@
+package org.people.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.application.dto.PeopleResponse;
+import org.people.domain.client.PeopleClient;
+import org.people.domain.exception.PeopleNotFoundException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hedged {@link PeopleClient#findById}: when the primary has not answered within the hedge
+ * delay, the same request is sent to the secondary and the first successful answer wins; the
+ * other call is cancelled. The delay is either fixed or the primary's observed p95.
+ * Hedges are capped to {@code maxHedgePercent} of traffic through a small credit bucket.
+ * <p>
+ * A primary error that arrives before the hedge delay is returned at once, without a hedge.
+ * Once a hedge is in flight, a primary error only surfaces if the hedge fails as well.
+ */
+public class HedgingPeopleClient implements PeopleClient {
+
+	private static final long CREDIT_UNIT = 1000;
+	private static final long MAX_CREDIT = 10 * CREDIT_UNIT;
+	private static final int MIN_SAMPLES_FOR_PERCENTILE = 20;
+
+	private final PeopleClient primary;
+	private final PeopleClient secondary;
+	private final Duration fixedDelay;
+	private final boolean usePercentile;
+	private final long creditPerRequest;
+	private final LatencyTracker primaryLatency;
+	private final AtomicLong credit = new AtomicLong();
+	private final Counter hedgesFired;
+	private final Counter hedgesWon;
+
+	public HedgingPeopleClient(PeopleClient primary,
+							   PeopleClient secondary,
+							   Duration fixedDelay,
+							   boolean usePercentile,
+							   double maxHedgePercent,
+							   MeterRegistry meterRegistry,
+							   String primaryDataSource,
+							   String secondaryDataSource) {
+		this.primary = primary;
+		this.secondary = secondary;
+		this.fixedDelay = fixedDelay;
+		this.usePercentile = usePercentile;
+		this.creditPerRequest = Math.round(maxHedgePercent / 100.0 * CREDIT_UNIT);
+		this.primaryLatency = new LatencyTracker(512, Duration.ofSeconds(1));
+		this.hedgesFired = Counter.builder("people.client.hedges.fired")
+				.tag("datasource", primaryDataSource)
+				.tag("secondary", secondaryDataSource)
+				.register(meterRegistry);
+		this.hedgesWon = Counter.builder("people.client.hedges.won")
+				.tag("datasource", primaryDataSource)
+				.tag("secondary", secondaryDataSource)
+				.register(meterRegistry);
+	}
+
+	@Override
+	public Mono<PeopleResponse> findById(Integer id) {
+		return Mono.defer(() -> {
+			addCredit();
+			long start = System.nanoTime();
+			AtomicReference<Throwable> primaryError = new AtomicReference<>();
+			Sinks.Empty<Void> primaryFailed = Sinks.empty();
+
+			Mono<PeopleResponse> primaryCall = primary.findById(id)
+					.doOnSuccess(people -> primaryLatency.record(System.nanoTime() - start))
+					.switchIfEmpty(Mono.error(() -> new PeopleNotFoundException(id)))
+					.doOnError(error -> {
+						primaryError.set(error);
+						primaryFailed.tryEmitEmpty();
+					});
+
+			// A primary failure before the delay skips the hedge; an already sent hedge keeps running
+			Mono<PeopleResponse> hedgeCall = Mono.delay(hedgeDelay())
+					.flux()
+					.takeUntilOther(primaryFailed.asMono())
+					.next()
+					.filter(tick -> tryAcquireCredit())
+					.flatMap(tick -> {
+						hedgesFired.increment();
+						return secondary.findById(id)
+								.doOnNext(people -> hedgesWon.increment());
+					});
+
+			// Only answers race; when neither call produces one, the primary's error is returned
+			return Mono.firstWithValue(primaryCall, hedgeCall)
+					.onErrorMap(error -> primaryError.get() != null ? primaryError.get() : error);
+		});
+	}
+
+	@Override
+	public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+		return primary.findByIds(ids);
+	}
+
+	@Override
+	public Flux<PeopleResponse> listAll() {
+		return primary.listAll();
+	}
+
+	private Duration hedgeDelay() {
+		if (usePercentile && primaryLatency.sampleCount() >= MIN_SAMPLES_FOR_PERCENTILE) {
+			Duration p95 = primaryLatency.percentile(0.95);
+			if (p95 != null) {
+				return p95;
+			}
+		}
+		return fixedDelay;
+	}
+
+	private void addCredit() {
+		credit.getAndUpdate(current -> Math.min(MAX_CREDIT, current + creditPerRequest));
+	}
+
+	private boolean tryAcquireCredit() {
+		long current;
+		do {
+			current = credit.get();
+			if (current < CREDIT_UNIT) {
+				return false;
+			}
+		} while (!credit.compareAndSet(current, current - CREDIT_UNIT));
+		return true;
+	}
+}
@@ -0,0 +1,66 @@
+package org.people.infrastructure.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Rolling window of the most recent call latencies for one upstream. Recording is a single
+ * array write; percentiles are computed from a copy of the window and memoized for
+ * {@code recomputeInterval} so hot paths can ask for them on every call.
+ */
+public class LatencyTracker {
+
+	private final AtomicLongArray samples;
+	private final AtomicInteger next = new AtomicInteger();
+	private final long recomputeIntervalNanos;
+
+	private volatile long[] sortedCache = new long[0];
+	private volatile long sortedAt;
+
+	public LatencyTracker(int windowSize, Duration recomputeInterval) {
+		this.samples = new AtomicLongArray(windowSize);
+		this.recomputeIntervalNanos = recomputeInterval.toNanos();
+		this.sortedAt = System.nanoTime() - recomputeIntervalNanos;
+	}
+
+	public void record(long nanos) {
+		int slot = Math.floorMod(next.getAndIncrement(), samples.length());
+		samples.set(slot, nanos);
+	}
+
+	public int sampleCount() {
+		int recorded = next.get();
+		// the counter wraps after 2^31 calls, by which point the window is long full
+		return recorded < 0 || recorded >= samples.length() ? samples.length() : recorded;
+	}
+
+	/**
+	 * Returns the requested percentile (0..1) of the window, or {@code null} with no samples yet.
+	 */
+	public Duration percentile(double quantile) {
+		long[] sorted = sorted();
+		if (sorted.length == 0) {
+			return null;
+		}
+		int index = (int) Math.ceil(quantile * sorted.length) - 1;
+		return Duration.ofNanos(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+	}
+
+	private long[] sorted() {
+		long now = System.nanoTime();
+		if (now - sortedAt < recomputeIntervalNanos) {
+			return sortedCache;
+		}
+		int count = sampleCount();
+		long[] copy = new long[count];
+		for (int i = 0; i < count; i++) {
+			copy[i] = samples.get(i);
+		}
+		Arrays.sort(copy);
+		sortedCache = copy;
+		sortedAt = now;
+		return copy;
+	}
+}
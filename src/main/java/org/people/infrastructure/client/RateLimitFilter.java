@@ -0,0 +1,115 @@
+package org.people.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.people.infrastructure.context.GrpcDeadlineContext;
+import org.people.infrastructure.exception.RateLimitExceededException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token-bucket rate limit for every HTTP request to one upstream, so retries, fan-outs and
+ * list pages all count. The bucket is kept as a single theoretical arrival time (GCRA), which
+ * makes acquiring a permit one CAS. Without a free token the request either waits for its
+ * reserved slot on a timer, never parking a thread, or is rejected immediately, depending on
+ * the policy; a wait longer than {@code maxWait} or than the caller's gRPC deadline is rejected.
+ */
+public class RateLimitFilter implements ExchangeFilterFunction {
+
+	public enum Policy {
+		QUEUE,
+		REJECT
+	}
+
+	private final String serviceName;
+	private final Policy policy;
+	private final long intervalNanos;
+	private final long burstNanos;
+	private final long maxWaitNanos;
+	private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+	private final Counter permitted;
+	private final Counter queued;
+	private final Counter rejected;
+	private final Timer waitTime;
+
+	public RateLimitFilter(String dataSource,
+						   String serviceName,
+						   double permitsPerSecond,
+						   int burst,
+						   Policy policy,
+						   Duration maxWait,
+						   MeterRegistry meterRegistry) {
+		this.serviceName = serviceName;
+		this.policy = policy;
+		this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+		this.burstNanos = intervalNanos * Math.max(0, burst - 1);
+		this.maxWaitNanos = maxWait.toNanos();
+		this.permitted = resultCounter(meterRegistry, dataSource, "permitted");
+		this.queued = resultCounter(meterRegistry, dataSource, "queued");
+		this.rejected = resultCounter(meterRegistry, dataSource, "rejected");
+		this.waitTime = Timer.builder("people.client.ratelimit.wait")
+				.description("Time queued requests waited for a rate-limit permit")
+				.tag("datasource", dataSource)
+				.register(meterRegistry);
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		return Mono.deferContextual(context -> {
+			long allowedWait = policy == Policy.QUEUE ? maxWaitNanos : 0;
+			Duration remaining = GrpcDeadlineContext.remaining(context).orElse(null);
+			if (remaining != null) {
+				allowedWait = Math.min(allowedWait, remaining.toNanos());
+			}
+
+			long wait = reserve(allowedWait);
+			if (wait < 0) {
+				rejected.increment();
+				return Mono.error(new RateLimitExceededException("Rate limit exceeded calling " + request.url(), serviceName));
+			}
+			if (wait == 0) {
+				permitted.increment();
+				return next.exchange(request);
+			}
+
+			queued.increment();
+			waitTime.record(wait, TimeUnit.NANOSECONDS);
+			return Mono.delay(Duration.ofNanos(wait)).then(next.exchange(request));
+		});
+	}
+
+	/**
+	 * Reserves the next slot and returns how long to wait for it, or {@code -1} when the wait
+	 * would exceed {@code allowedWaitNanos} and nothing was reserved.
+	 */
+	private long reserve(long allowedWaitNanos) {
+		while (true) {
+			long now = System.nanoTime();
+			long arrival = theoreticalArrival.get();
+			long start = Math.max(arrival, now);
+			long wait = Math.max(0, start - burstNanos - now);
+			if (wait > allowedWaitNanos) {
+				return -1;
+			}
+			if (theoreticalArrival.compareAndSet(arrival, start + intervalNanos)) {
+				return wait;
+			}
+		}
+	}
+
+	private Counter resultCounter(MeterRegistry meterRegistry, String dataSource, String result) {
+		return Counter.builder("people.client.ratelimit")
+				.description("Upstream requests by rate-limit outcome")
+				.tag("datasource", dataSource)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
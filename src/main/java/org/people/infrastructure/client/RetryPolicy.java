@@ -0,0 +1,138 @@
+package org.people.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.infrastructure.context.GrpcDeadlineContext;
+import org.people.infrastructure.logging.Logger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Retry policy shared by every call to one upstream. Retries draw from a token bucket that each
+ * request refills by {@code budgetPercent}%, so during a brownout retries stay a bounded fraction
+ * of traffic instead of multiplying it. Backoff is exponential with full jitter, a uniform draw
+ * between zero and {@code minBackoff * 2^attempt} capped at {@code maxBackoff}, and a retry is
+ * skipped when it could not complete before the caller's gRPC deadline.
+ */
+public class RetryPolicy {
+
+	private static final Logger logger = Logger.getLogger(RetryPolicy.class);
+	private static final long TOKEN = 1000;
+
+	private final String dataSource;
+	private final int maxRetries;
+	private final Duration minBackoff;
+	private final Duration maxBackoff;
+	private final Duration minAttemptTime;
+	private final long depositPerRequest;
+	private final long maxBalance;
+	private final AtomicLong balance;
+	private final Counter granted;
+	private final Counter budgetExhausted;
+	private final Counter deadlineDenied;
+
+	public RetryPolicy(String dataSource,
+					   int maxRetries,
+					   Duration minBackoff,
+					   Duration maxBackoff,
+					   Duration minAttemptTime,
+					   double budgetPercent,
+					   int maxTokens,
+					   MeterRegistry meterRegistry) {
+		this.dataSource = dataSource;
+		this.maxRetries = maxRetries;
+		this.minBackoff = minBackoff;
+		this.maxBackoff = maxBackoff;
+		this.minAttemptTime = minAttemptTime;
+		this.depositPerRequest = Math.round(budgetPercent / 100.0 * TOKEN);
+		this.maxBalance = maxTokens * TOKEN;
+		this.balance = new AtomicLong(maxBalance);
+
+		this.granted = retryCounter(meterRegistry, "granted");
+		this.budgetExhausted = retryCounter(meterRegistry, "budget_exhausted");
+		this.deadlineDenied = retryCounter(meterRegistry, "deadline_exceeded");
+		Gauge.builder("people.client.retry.budget.tokens", balance, value -> value.get() / (double) TOKEN)
+				.tag("datasource", dataSource)
+				.register(meterRegistry);
+	}
+
+	public <T> Mono<T> apply(Mono<T> call, Predicate<Throwable> retryable) {
+		return call.transformDeferredContextual((mono, context) -> {
+			deposit();
+			return mono.retryWhen(retry(retryable, GrpcDeadlineContext.remaining(context), System.nanoTime()));
+		});
+	}
+
+	public <T> Flux<T> apply(Flux<T> call, Predicate<Throwable> retryable) {
+		return call.transformDeferredContextual((flux, context) -> {
+			deposit();
+			return flux.retryWhen(retry(retryable, GrpcDeadlineContext.remaining(context), System.nanoTime()));
+		});
+	}
+
+	private Retry retry(Predicate<Throwable> retryable, Optional<Duration> remainingAtStart, long startNanos) {
+		return Retry.from(signals -> signals.concatMap(signal -> {
+			Throwable failure = signal.failure();
+			long attempt = signal.totalRetries();
+			if (attempt >= maxRetries || !retryable.test(failure)) {
+				return Mono.error(failure);
+			}
+
+			Duration delay = jitteredBackoff(attempt);
+			if (remainingAtStart.isPresent()) {
+				Duration remaining = remainingAtStart.get().minusNanos(System.nanoTime() - startNanos);
+				if (remaining.compareTo(delay.plus(minAttemptTime)) < 0) {
+					deadlineDenied.increment();
+					return Mono.error(failure);
+				}
+			}
+
+			if (!tryWithdraw()) {
+				budgetExhausted.increment();
+				logger.warn("Retry budget exhausted - datasource: {}, error: {}", dataSource, failure.getMessage());
+				return Mono.error(failure);
+			}
+
+			granted.increment();
+			logger.warn("Retrying request - datasource: {}, attempt: {}, delay: {}ms, error: {}",
+					dataSource, attempt + 1, delay.toMillis(), failure.getMessage());
+			return Mono.delay(delay);
+		}));
+	}
+
+	private Duration jitteredBackoff(long attempt) {
+		long ceiling = Math.min(maxBackoff.toNanos(), minBackoff.toNanos() << Math.min(attempt, 20));
+		// full jitter draws from [0, ceiling], spreading retries from many callers instead of synchronizing them
+		return Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+	}
+
+	private void deposit() {
+		balance.getAndUpdate(current -> Math.min(maxBalance, current + depositPerRequest));
+	}
+
+	private boolean tryWithdraw() {
+		long current;
+		do {
+			current = balance.get();
+			if (current < TOKEN) {
+				return false;
+			}
+		} while (!balance.compareAndSet(current, current - TOKEN));
+		return true;
+	}
+
+	private Counter retryCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("people.client.retries")
+				.tag("datasource", dataSource)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,96 @@
+package org.people.infrastructure.client;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.people.infrastructure.logging.LogContext;
+import org.people.infrastructure.logging.Logger;
+import org.people.infrastructure.logging.RequestContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request-id propagation, logging and latency metrics for one upstream in a single filter.
+ * Tracing headers are added with one request rebuild, and the start time travels in the Reactor
+ * {@code Context} as a {@code nanoTime}, so the measurement survives scheduler hops. Each
+ * exchange is recorded in {@code people.client.http.latency}, tagged with the data source, the
+ * HTTP status and the URI template rather than the expanded URI. Method, URL, duration and
+ * status code are also put into the {@link LogContext} of the thread that handles the request
+ * and the response.
+ */
+public class UpstreamExchangeFilter implements ExchangeFilterFunction {
+
+	private static final Logger logger = Logger.getLogger(UpstreamExchangeFilter.class);
+	private static final String REQUEST_ID_HEADER = "X-Request-ID";
+	private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+	private static final String START_NANOS_KEY = UpstreamExchangeFilter.class.getName() + ".start";
+	private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+
+	private final Meter.MeterProvider<Timer> latency;
+
+	public UpstreamExchangeFilter(String dataSource, MeterRegistry meterRegistry) {
+		this.latency = Timer.builder("people.client.http.latency")
+				.description("Latency of upstream HTTP exchanges until the response headers")
+				.tag("datasource", dataSource)
+				.publishPercentileHistogram()
+				.withRegistry(meterRegistry);
+	}
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		String correlationId = LogContext.get("correlation_id");
+		ClientRequest traced = ClientRequest.from(request)
+				.headers(headers -> addTracingHeaders(headers, RequestContext.getRequestId(), correlationId))
+				.build();
+		String uri = request.attribute(URI_TEMPLATE_ATTRIBUTE)
+				.map(String.class::cast)
+				.orElseGet(() -> request.url().getPath());
+
+		return Mono.deferContextual(context -> {
+					long start = context.get(START_NANOS_KEY);
+					LogContext.add("http.method", request.method().name());
+					LogContext.add("http.url", request.url().toString());
+					logger.debug("HTTP Request - method: {}, url: {}", request.method(), request.url());
+
+					return next.exchange(traced)
+							.doOnNext(response -> onResponse(request, response, uri, start))
+							.doOnError(error -> record(uri, "IO_ERROR", start))
+							.doOnCancel(() -> record(uri, "CANCELLED", start));
+				})
+				.contextWrite(context -> context.put(START_NANOS_KEY, System.nanoTime()));
+	}
+
+	private void addTracingHeaders(HttpHeaders headers, String requestId, String correlationId) {
+		headers.set(REQUEST_ID_HEADER, requestId);
+		if (correlationId != null) {
+			headers.set(CORRELATION_ID_HEADER, correlationId);
+		}
+	}
+
+	private void onResponse(ClientRequest request, ClientResponse response, String uri, long start) {
+		String statusCode = String.valueOf(response.statusCode().value());
+		long nanos = record(uri, statusCode, start);
+		LogContext.setDuration(TimeUnit.NANOSECONDS.toMillis(nanos));
+		LogContext.setStatusCode(statusCode);
+		if (response.statusCode().isError()) {
+			logger.warn("HTTP Response - url: {}, status: {}, duration: {}ms",
+					request.url(), response.statusCode(), TimeUnit.NANOSECONDS.toMillis(nanos));
+		} else {
+			logger.debug("HTTP Response - url: {}, status: {}, duration: {}ms",
+					request.url(), response.statusCode(), TimeUnit.NANOSECONDS.toMillis(nanos));
+		}
+	}
+
+	private long record(String uri, String status, long start) {
+		long nanos = System.nanoTime() - start;
+		latency.withTags("status", status, "uri", uri).record(nanos, TimeUnit.NANOSECONDS);
+		return nanos;
+	}
+}
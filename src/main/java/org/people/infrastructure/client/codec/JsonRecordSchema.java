@@ -0,0 +1,49 @@
+package org.people.infrastructure.client.codec;
+
+import java.util.function.Function;
+
+/**
+ * Flat binding of a JSON object to a record for {@link JsonRecordTokenizer}. Only scalar fields
+ * are bound; anything the schema does not name, including nested objects, is skipped.
+ */
+public interface JsonRecordSchema<T> {
+
+	/**
+	 * Number of fields the schema binds; values are collected into an array of this size.
+	 */
+	int fieldCount();
+
+	/**
+	 * Slot of the named field in the values array, or {@code -1} to skip it.
+	 */
+	int fieldIndex(String name);
+
+	/**
+	 * Builds the record from collected values: {@code String}, {@code Integer}, {@code Long},
+	 * {@code Double}, {@code Boolean} or {@code null} for absent fields.
+	 */
+	T create(Object[] values);
+
+	/**
+	 * Same binding, with each record passed through {@code mapper} before it is emitted.
+	 */
+	default <R> JsonRecordSchema<R> andThen(Function<? super T, ? extends R> mapper) {
+		JsonRecordSchema<T> source = this;
+		return new JsonRecordSchema<>() {
+			@Override
+			public int fieldCount() {
+				return source.fieldCount();
+			}
+
+			@Override
+			public int fieldIndex(String name) {
+				return source.fieldIndex(name);
+			}
+
+			@Override
+			public R create(Object[] values) {
+				return mapper.apply(source.create(values));
+			}
+		};
+	}
+}
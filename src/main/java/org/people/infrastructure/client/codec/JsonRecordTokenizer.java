@@ -0,0 +1,196 @@
+package org.people.infrastructure.client.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Push-style JSON reader that turns a stream of {@link DataBuffer}s into records as soon as each
+ * object closes. Tokens come from Jackson's non-blocking parser and are bound field by field
+ * through a {@link JsonRecordSchema}; no tree or token copy is built and unknown values are
+ * skipped by depth counting, so memory stays flat however large the document is.
+ * <p>
+ * Records are either the top-level object, the elements of a top-level array, or, when
+ * {@code arrayField} is set, the elements of the array under that field of the top-level
+ * object. Other top-level scalars can be observed through {@code topLevelValues}.
+ * <p>
+ * Not thread-safe: one instance per decoded body, fed serially.
+ */
+public final class JsonRecordTokenizer<T> {
+
+	private final JsonRecordSchema<T> schema;
+	private final String arrayField;
+	private final BiConsumer<String, Object> topLevelValues;
+	private final JsonParser parser;
+	private final ByteArrayFeeder feeder;
+
+	private int depth;
+	private boolean topLevelArray;
+	private boolean inRecordArray;
+	private String topLevelField;
+
+	private Object[] values;
+	private int recordDepth;
+	private int fieldSlot = -1;
+	private int skipDepth;
+
+	public JsonRecordTokenizer(JsonFactory factory,
+							   JsonRecordSchema<T> schema,
+							   String arrayField,
+							   BiConsumer<String, Object> topLevelValues) {
+		this.schema = schema;
+		this.arrayField = arrayField;
+		this.topLevelValues = topLevelValues;
+		try {
+			this.parser = factory.createNonBlockingByteArrayParser();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+	}
+
+	public List<T> feed(DataBuffer buffer) {
+		try {
+			byte[] bytes = new byte[buffer.readableByteCount()];
+			buffer.read(bytes);
+			feeder.feedInput(bytes, 0, bytes.length);
+			return drain();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			DataBufferUtils.release(buffer);
+		}
+	}
+
+	public List<T> endOfInput() {
+		try {
+			feeder.endOfInput();
+			return drain();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public void close() {
+		try {
+			parser.close();
+		} catch (IOException ignored) {
+			// the parser holds no external resources
+		}
+	}
+
+	private List<T> drain() throws IOException {
+		List<T> records = List.of();
+		JsonToken token;
+		while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+			T record = values != null ? onRecordToken(token) : onOuterToken(token);
+			if (record != null) {
+				if (records.isEmpty()) {
+					records = new ArrayList<>();
+				}
+				records.add(record);
+			}
+		}
+		return records;
+	}
+
+	private T onOuterToken(JsonToken token) throws IOException {
+		switch (token) {
+			case START_OBJECT -> {
+				if (isRecordStart()) {
+					values = new Object[schema.fieldCount()];
+					recordDepth = ++depth;
+					return null;
+				}
+				depth++;
+			}
+			case START_ARRAY -> {
+				depth++;
+				if (depth == 1) {
+					topLevelArray = true;
+				} else if (depth == 2 && arrayField != null && arrayField.equals(topLevelField)) {
+					inRecordArray = true;
+				}
+			}
+			case END_OBJECT, END_ARRAY -> {
+				if (depth == 2) {
+					inRecordArray = false;
+				}
+				depth--;
+			}
+			case FIELD_NAME -> {
+				if (depth == 1) {
+					topLevelField = parser.currentName();
+				}
+			}
+			default -> {
+				if (depth == 1 && topLevelValues != null && topLevelField != null) {
+					topLevelValues.accept(topLevelField, scalar(token));
+				}
+			}
+		}
+		return null;
+	}
+
+	private boolean isRecordStart() {
+		if (arrayField != null) {
+			return depth == 2 && inRecordArray;
+		}
+		return depth == 0 || (depth == 1 && topLevelArray);
+	}
+
+	private T onRecordToken(JsonToken token) throws IOException {
+		if (skipDepth > 0) {
+			if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+				skipDepth++;
+			} else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+				skipDepth--;
+			}
+			return null;
+		}
+
+		switch (token) {
+			case FIELD_NAME -> fieldSlot = schema.fieldIndex(parser.currentName());
+			case START_OBJECT, START_ARRAY -> {
+				// nested values are never bound
+				skipDepth = 1;
+				fieldSlot = -1;
+			}
+			case END_OBJECT -> {
+				T record = schema.create(values);
+				values = null;
+				depth = recordDepth - 1;
+				return record;
+			}
+			default -> {
+				if (fieldSlot >= 0) {
+					values[fieldSlot] = scalar(token);
+					fieldSlot = -1;
+				}
+			}
+		}
+		return null;
+	}
+
+	private Object scalar(JsonToken token) throws IOException {
+		return switch (token) {
+			case VALUE_STRING -> parser.getText();
+			case VALUE_NUMBER_INT -> parser.getNumberType() == JsonParser.NumberType.INT
+					? (Object) parser.getIntValue()
+					: (Object) parser.getLongValue();
+			case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+			case VALUE_TRUE -> Boolean.TRUE;
+			case VALUE_FALSE -> Boolean.FALSE;
+			default -> null;
+		};
+	}
+}
@@ -0,0 +1,11 @@
+package org.people.infrastructure.client.codec;
+
+/**
+ * Target of the direct upstream schemas: builds the final person representation straight from
+ * the bound JSON values, without an upstream-shaped record in between.
+ */
+@FunctionalInterface
+public interface PeopleRecordFactory<T> {
+
+	T create(Integer id, String name, String email);
+}
@@ -0,0 +1,70 @@
+package org.people.infrastructure.client.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * WebClient {@link Decoder} for one upstream record type. The body is tokenized buffer by
+ * buffer through a {@link JsonRecordTokenizer}, so {@code bodyToFlux} emits each record as it
+ * completes and neither direction is bound by {@code maxInMemorySize}.
+ */
+public class StreamingJsonDecoder<T> implements Decoder<T> {
+
+	private static final List<MimeType> MIME_TYPES = List.of(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+
+	private final Class<T> type;
+	private final JsonRecordSchema<T> schema;
+	private final JsonFactory jsonFactory;
+
+	public StreamingJsonDecoder(Class<T> type, JsonRecordSchema<T> schema, JsonFactory jsonFactory) {
+		this.type = type;
+		this.schema = schema;
+		this.jsonFactory = jsonFactory;
+	}
+
+	@Override
+	public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+		return elementType.toClass() == type
+				&& (mimeType == null || MIME_TYPES.stream().anyMatch(supported -> supported.isCompatibleWith(mimeType)));
+	}
+
+	@Override
+	public Flux<T> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+						  MimeType mimeType, Map<String, Object> hints) {
+		return decode(inputStream);
+	}
+
+	/**
+	 * Decodes a raw body outside the codec pipeline, e.g. a body read as {@code DataBuffer}s.
+	 */
+	public Flux<T> decode(Publisher<DataBuffer> inputStream) {
+		return Flux.defer(() -> {
+			JsonRecordTokenizer<T> tokenizer = new JsonRecordTokenizer<>(jsonFactory, schema, null, null);
+			return Flux.from(inputStream)
+					.concatMapIterable(tokenizer::feed)
+					.concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())))
+					.doFinally(signal -> tokenizer.close());
+		});
+	}
+
+	@Override
+	public Mono<T> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType,
+								MimeType mimeType, Map<String, Object> hints) {
+		return decode(inputStream, elementType, mimeType, hints).singleOrEmpty();
+	}
+
+	@Override
+	public List<MimeType> getDecodableMimeTypes() {
+		return MIME_TYPES;
+	}
+}
@@ -3,59 +3,111 @@ package org.people.infrastructure.client.dummy;
 import lombok.RequiredArgsConstructor;
 import org.people.application.dto.PeopleResponse;
 import org.people.domain.client.PeopleClient;
+import org.people.domain.exception.PeopleException;
+import org.people.domain.exception.PeopleNotFoundException;
+import org.people.infrastructure.client.ConditionalCache;
+import org.people.infrastructure.client.RetryPolicy;
+import org.people.infrastructure.client.codec.StreamingJsonDecoder;
 import org.people.infrastructure.exception.ExternalServiceException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 
 @Component
 @RequiredArgsConstructor
 public class DummyClientImpl implements PeopleClient {
 
+	private static final int BATCH_CONCURRENCY = 8;
+
 	private final WebClient dummyWebClient;
-	private final DummyMapper dummyMapper;
+	private final RetryPolicy dummyRetryPolicy;
+	private final DummyUsersReader dummyUsersReader;
+	private final DummyListSettings dummyListSettings;
+	private final ConditionalCache dummyConditionalCache;
+	private final StreamingJsonDecoder<PeopleResponse> dummyPeopleDecoder;
 
 	@Override
 	public Mono<PeopleResponse> findById(Integer id) {
-		return dummyWebClient
-				.get()
-				.uri("/users/{id}", id)
-				.header("Accept", "application/json")
-				.retrieve()
-				.bodyToMono(DummyResponse.class)
-				.map(response -> {
-						PeopleResponse peopleResponse = dummyMapper.toPeopleResponse(response);
-						return peopleResponse;
-				})
-				.onErrorMap(e -> {
+		Mono<PeopleResponse> call = dummyConditionalCache.fetchOne("/users/" + id,
+						validators -> dummyWebClient
+								.get()
+								.uri("/users/{id}", id)
+								.header("Accept", "application/json")
+								.headers(validators)
+								.retrieve()
+								.onStatus(HttpStatus.NOT_FOUND::equals, response -> Mono.error(new PeopleNotFoundException(id)))
+								.toEntityFlux(DataBuffer.class),
+						dummyPeopleDecoder::decode)
+				.onErrorMap(e -> !(e instanceof PeopleException), e -> {
 					String errorMessage = "Error fetching people from Dummy: " + e.getMessage();
 					return new ExternalServiceException(errorMessage, "Dummy API", e);
 				});
+
+		return dummyRetryPolicy.apply(call, this::isRetryableException);
+	}
+
+	@Override
+	public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+		// DummyJSON has no multi-id filter, so fan out with bounded concurrency and drop missing ids
+		return Flux.fromIterable(ids)
+				.flatMap(id -> findById(id)
+						.onErrorResume(PeopleNotFoundException.class, e -> Mono.empty()),
+						BATCH_CONCURRENCY);
 	}
 
 	@Override
 	public Flux<PeopleResponse> listAll() {
-		return dummyWebClient
-				.get()
-				.uri("/users")
-				.header("Accept", "application/json")
-				.retrieve()
-				.bodyToMono(DummyListResponse.class)
-				.flatMapMany(response -> {
-					List<DummyResponse> users = response.users();
-
-					return Flux.fromIterable(users)
-							.map(user -> {
-								PeopleResponse peopleResponse = dummyMapper.toPeopleResponse(user);
-								return peopleResponse;
-							});
-				})
-				.onErrorMap(e -> {
+		// The first page reports the total; the remaining pages are then fetched in parallel
+		AtomicInteger total = new AtomicInteger(-1);
+		int pageSize = dummyListSettings.pageSize();
+
+		Flux<PeopleResponse> remainingPages = Flux.defer(() -> {
+			int pages = Math.max(0, (total.get() - 1) / pageSize);
+			Flux<Integer> skips = Flux.range(1, pages).map(page -> page * pageSize);
+			return dummyListSettings.ordered()
+					? skips.flatMapSequential(skip -> fetchPage(skip, value -> { }), dummyListSettings.concurrency())
+					: skips.flatMap(skip -> fetchPage(skip, value -> { }), dummyListSettings.concurrency());
+		});
+
+		return fetchPage(0, total::set)
+				.concatWith(remainingPages);
+	}
+
+	private Flux<PeopleResponse> fetchPage(int skip, IntConsumer totalConsumer) {
+		// A retried page resumes after the users it already emitted instead of repeating them
+		AtomicInteger emitted = new AtomicInteger();
+		Flux<PeopleResponse> call = Flux.defer(() -> dummyUsersReader.read(dummyWebClient
+						.get()
+						.uri(uriBuilder -> uriBuilder
+								.path("/users")
+								.queryParam("skip", skip)
+								.queryParam("limit", dummyListSettings.pageSize())
+								.build())
+						.header("Accept", "application/json")
+						.retrieve()
+						.bodyToFlux(DataBuffer.class), totalConsumer)
+						.skip(emitted.get()))
+				.doOnNext(user -> emitted.incrementAndGet())
+				.onErrorMap(e -> !(e instanceof PeopleException), e -> {
 					String errorMessage = "Error fetching people list from Dummy: " + e.getMessage();
 					return new ExternalServiceException(errorMessage, "Dummy API", e);
 				});
+
+		return dummyRetryPolicy.apply(call, this::isRetryableException);
+	}
+
+	private boolean isRetryableException(Throwable throwable) {
+		// A 4xx from DummyJSON will not change on retry
+		return throwable instanceof ExternalServiceException
+				&& !(throwable.getCause() instanceof WebClientResponseException response
+				&& response.getStatusCode().is4xxClientError());
 	}
 }
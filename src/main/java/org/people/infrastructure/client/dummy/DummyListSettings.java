@@ -0,0 +1,10 @@
+package org.people.infrastructure.client.dummy;
+
+/**
+ * How {@link DummyClientImpl#listAll()} pages through DummyJSON: page size, how many pages are
+ * fetched in parallel, and whether people are emitted in upstream order.
+ */
+public record DummyListSettings(
+		int pageSize,
+		int concurrency,
+		boolean ordered) {}
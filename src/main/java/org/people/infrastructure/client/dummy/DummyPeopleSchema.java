@@ -0,0 +1,46 @@
+package org.people.infrastructure.client.dummy;
+
+import org.people.infrastructure.client.codec.JsonRecordSchema;
+import org.people.infrastructure.client.codec.PeopleRecordFactory;
+
+/**
+ * Binds a DummyJSON user straight to the target type, skipping {@link DummyResponse} and
+ * {@link DummyMapper}. The name is joined exactly as the mapper does.
+ */
+public class DummyPeopleSchema<T> implements JsonRecordSchema<T> {
+
+	private static final int ID = 0;
+	private static final int EMAIL = 1;
+	private static final int FIRST_NAME = 2;
+	private static final int LAST_NAME = 3;
+
+	private final PeopleRecordFactory<T> factory;
+
+	public DummyPeopleSchema(PeopleRecordFactory<T> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public int fieldCount() {
+		return 4;
+	}
+
+	@Override
+	public int fieldIndex(String name) {
+		return switch (name) {
+			case "id" -> ID;
+			case "email" -> EMAIL;
+			case "firstName" -> FIRST_NAME;
+			case "lastName" -> LAST_NAME;
+			default -> -1;
+		};
+	}
+
+	@Override
+	public T create(Object[] values) {
+		return factory.create(
+				values[ID] instanceof Number id ? id.intValue() : null,
+				values[FIRST_NAME] + " " + values[LAST_NAME],
+				(String) values[EMAIL]);
+	}
+}
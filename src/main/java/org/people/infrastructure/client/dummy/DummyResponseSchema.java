@@ -0,0 +1,36 @@
+package org.people.infrastructure.client.dummy;
+
+import org.people.infrastructure.client.codec.JsonRecordSchema;
+
+public class DummyResponseSchema implements JsonRecordSchema<DummyResponse> {
+
+	private static final int ID = 0;
+	private static final int EMAIL = 1;
+	private static final int FIRST_NAME = 2;
+	private static final int LAST_NAME = 3;
+
+	@Override
+	public int fieldCount() {
+		return 4;
+	}
+
+	@Override
+	public int fieldIndex(String name) {
+		return switch (name) {
+			case "id" -> ID;
+			case "email" -> EMAIL;
+			case "firstName" -> FIRST_NAME;
+			case "lastName" -> LAST_NAME;
+			default -> -1;
+		};
+	}
+
+	@Override
+	public DummyResponse create(Object[] values) {
+		return new DummyResponse(
+				values[ID] instanceof Number id ? id.intValue() : null,
+				(String) values[EMAIL],
+				(String) values[FIRST_NAME],
+				(String) values[LAST_NAME]);
+	}
+}
@@ -0,0 +1,40 @@
+package org.people.infrastructure.client.dummy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.people.application.dto.PeopleResponse;
+import org.people.infrastructure.client.codec.JsonRecordSchema;
+import org.people.infrastructure.client.codec.JsonRecordTokenizer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Reads a DummyJSON list page ({@code {"users": [...], "total": n, ...}}) incrementally. Each
+ * element of {@code users} is emitted as soon as its closing brace arrives, so the page never
+ * has to fit in memory as a whole. {@code total} is reported through a callback when parsed.
+ */
+@Component
+@RequiredArgsConstructor
+public class DummyUsersReader {
+
+	private final ObjectMapper objectMapper;
+	private final JsonRecordSchema<PeopleResponse> dummyPeopleSchema;
+
+	public Flux<PeopleResponse> read(Flux<DataBuffer> body, IntConsumer totalConsumer) {
+		return Flux.defer(() -> {
+			JsonRecordTokenizer<PeopleResponse> tokenizer = new JsonRecordTokenizer<>(objectMapper.getFactory(), dummyPeopleSchema, "users",
+					(field, value) -> {
+						if ("total".equals(field) && value instanceof Number total) {
+							totalConsumer.accept(total.intValue());
+						}
+					});
+			return body
+					.concatMapIterable(tokenizer::feed)
+					.concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())))
+					.doFinally(signal -> tokenizer.close());
+		});
+	}
+}
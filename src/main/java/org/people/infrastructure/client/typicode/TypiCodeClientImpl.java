@@ -4,20 +4,25 @@ import lombok.RequiredArgsConstructor;
 import org.people.application.dto.PeopleResponse;
 import org.people.domain.client.PeopleClient;
 import org.people.domain.exception.PeopleNotFoundException;
+import org.people.infrastructure.client.ConditionalCache;
+import org.people.infrastructure.client.RetryPolicy;
+import org.people.infrastructure.client.codec.StreamingJsonDecoder;
 import org.people.infrastructure.exception.ExternalServiceException;
 import org.people.infrastructure.logging.LogContext;
 import org.people.infrastructure.logging.Logger;
 import org.people.infrastructure.logging.RequestContext;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
-import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 @Component
@@ -26,8 +31,13 @@ public class TypiCodeClientImpl implements PeopleClient {
 
 	private static final Logger logger = Logger.getLogger(TypiCodeClientImpl.class);
 
+	private static final int BULK_CHUNK_SIZE = 50;
+	private static final int BULK_CONCURRENCY = 4;
+
 	private final WebClient typiCodeWebClient;
-	private final TypiCodeMapper typiCodeMapper;
+	private final RetryPolicy typiCodeRetryPolicy;
+	private final ConditionalCache typiCodeConditionalCache;
+	private final StreamingJsonDecoder<PeopleResponse> typiCodePeopleDecoder;
 
 	@Override
 	public Mono<PeopleResponse> findById(Integer id) {
@@ -37,31 +47,27 @@ public class TypiCodeClientImpl implements PeopleClient {
 
 		logger.info("Fetching people by id from external API - id: {}, requestId: {}", id, requestId);
 
-		return typiCodeWebClient
-				.get()
-				.uri("/users/{id}", id)
-				.retrieve()
-				.onStatus(HttpStatus.NOT_FOUND::equals, response -> handleNotFound(id, response))
-				.onStatus(status -> status.is4xxClientError(), response -> handleClientError(id, response))
-				.onStatus(status -> status.is5xxServerError(), response -> handleServerError(id, response))
-				.bodyToMono(TypiCodeResponse.class)
+		Mono<PeopleResponse> call = typiCodeConditionalCache.fetchOne("/users/" + id,
+						validators -> typiCodeWebClient
+								.get()
+								.uri("/users/{id}", id)
+								.headers(validators)
+								.retrieve()
+								.onStatus(HttpStatus.NOT_FOUND::equals, response -> handleNotFound(id, response))
+								.onStatus(status -> status.is4xxClientError(), response -> handleClientError(id, response))
+								.onStatus(status -> status.is5xxServerError(), response -> handleServerError(id, response))
+								.toEntityFlux(DataBuffer.class),
+						typiCodePeopleDecoder::decode)
 				.switchIfEmpty(Mono.error(() -> {
 					logger.warn("Empty response from external API for people id: {}", id);
 					return new PeopleNotFoundException(id);
 				}))
-				.map(response -> {
-					if (response == null || response.id() == null) {
+				.map(peopleResponse -> {
+					if (peopleResponse.getId() == null) {
 						logger.warn("Invalid or null response from external API for people id: {}", id);
 						throw new PeopleNotFoundException(id);
 					}
 
-					PeopleResponse peopleResponse = typiCodeMapper.toPeopleResponse(response);
-
-					if (peopleResponse == null) {
-						logger.warn("Failed to map response to PeopleResponse for id: {}", id);
-						throw new PeopleNotFoundException(id);
-					}
-
 					logger.info("People fetched successfully from external API", Map.of(
 							"people_id", String.valueOf(id),
 							"people_name", peopleResponse.getName(),
@@ -69,12 +75,9 @@ public class TypiCodeClientImpl implements PeopleClient {
 					));
 
 					return peopleResponse;
-				})
-				.retryWhen(Retry.backoff(2, Duration.ofMillis(100))
-						.filter(this::isRetryableException)
-						.doBeforeRetry(retrySignal -> logger.warn("Retrying request - attempt: {}, error: {}",
-								retrySignal.totalRetries() + 1,
-								retrySignal.failure().getMessage())))
+				});
+
+		return typiCodeRetryPolicy.apply(call, this::isRetryableException)
 				.doOnError(error -> {
 					LogContext.setError(error.getClass().getSimpleName());
 					LogContext.setErrorMessage(error.getMessage());
@@ -84,33 +87,60 @@ public class TypiCodeClientImpl implements PeopleClient {
 	}
 
 	@Override
-	public Flux<PeopleResponse> listAll() {
+	public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
 		String requestId = RequestContext.getRequestId();
-		LogContext.add("operation", "listAll");
+		LogContext.add("operation", "findByIds");
 
-		logger.info("Fetching all people from external API - requestId: {}", requestId);
+		logger.info("Fetching people batch from external API - size: {}, requestId: {}", ids.size(), requestId);
+
+		// JSONPlaceholder filters /users by repeated id params, so each chunk is a single request
+		return Flux.fromIterable(ids)
+				.buffer(BULK_CHUNK_SIZE)
+				.flatMap(this::fetchChunk, BULK_CONCURRENCY)
+				.doOnError(error -> {
+					LogContext.setError(error.getClass().getSimpleName());
+					LogContext.setErrorMessage(error.getMessage());
+					logger.error("Error fetching people batch from external API", error);
+				})
+				.doFinally(signalType -> LogContext.clear());
+	}
 
-		return typiCodeWebClient
+	private Flux<PeopleResponse> fetchChunk(List<Integer> ids) {
+		Flux<PeopleResponse> call = typiCodeWebClient
 				.get()
-				.uri("/users")
+				.uri(uriBuilder -> uriBuilder
+						.path("/users")
+						.queryParam("id", ids.toArray())
+						.build())
 				.retrieve()
 				.onStatus(status -> status.is4xxClientError(), this::handleClientErrorList)
 				.onStatus(status -> status.is5xxServerError(), this::handleServerErrorList)
-				.bodyToFlux(TypiCodeResponse.class)
-				.map(response -> {
-					PeopleResponse peopleResponse = typiCodeMapper.toPeopleResponse(response);
-					if (peopleResponse == null) {
-						logger.warn("Failed to map response to PeopleResponse");
-						throw new ExternalServiceException("Mapping error", "TypiCode API");
-					}
-					return peopleResponse;
-				})
-				.doOnComplete(() -> logger.info("Successfully fetched all people from external API"))
-				.retryWhen(Retry.backoff(2, Duration.ofMillis(100))
-						.filter(this::isRetryableException)
-						.doBeforeRetry(retrySignal -> logger.warn("Retrying list request - attempt: {}, error: {}",
-								retrySignal.totalRetries() + 1,
-								retrySignal.failure().getMessage())))
+				.bodyToFlux(PeopleResponse.class)
+				.filter(response -> response.getId() != null);
+
+		return typiCodeRetryPolicy.apply(call, this::isRetryableException);
+	}
+
+	@Override
+	public Flux<PeopleResponse> listAll() {
+		String requestId = RequestContext.getRequestId();
+		LogContext.add("operation", "listAll");
+
+		logger.info("Fetching all people from external API - requestId: {}", requestId);
+
+		Flux<PeopleResponse> call = typiCodeConditionalCache.fetch("/users",
+						validators -> typiCodeWebClient
+								.get()
+								.uri("/users")
+								.headers(validators)
+								.retrieve()
+								.onStatus(status -> status.is4xxClientError(), this::handleClientErrorList)
+								.onStatus(status -> status.is5xxServerError(), this::handleServerErrorList)
+								.toEntityFlux(DataBuffer.class),
+						typiCodePeopleDecoder::decode)
+				.doOnComplete(() -> logger.info("Successfully fetched all people from external API"));
+
+		return typiCodeRetryPolicy.apply(call, this::isRetryableException)
 				.doOnError(error -> {
 					LogContext.setError(error.getClass().getSimpleName());
 					LogContext.setErrorMessage(error.getMessage());
@@ -180,8 +210,11 @@ public class TypiCodeClientImpl implements PeopleClient {
 			return false;
 		}
 
-		// Retry apenas para erros de servidor (5xx)
-		return throwable instanceof ExternalServiceException ||
+		// Retry apenas para erros de servidor (5xx) ou falhas de transporte
+		if (throwable instanceof ExternalServiceException external) {
+			return external.getHttpStatusCode() == 0 || external.getHttpStatusCode() >= 500;
+		}
+		return throwable instanceof WebClientRequestException ||
 				(throwable instanceof WebClientResponseException &&
 						((WebClientResponseException) throwable).getStatusCode().is5xxServerError());
 	}
@@ -0,0 +1,44 @@
+package org.people.infrastructure.client.typicode;
+
+import org.people.infrastructure.client.codec.JsonRecordSchema;
+import org.people.infrastructure.client.codec.PeopleRecordFactory;
+
+/**
+ * Binds a JSONPlaceholder user straight to the target type, skipping {@link TypiCodeResponse}
+ * and {@link TypiCodeMapper}.
+ */
+public class TypiCodePeopleSchema<T> implements JsonRecordSchema<T> {
+
+	private static final int ID = 0;
+	private static final int NAME = 1;
+	private static final int EMAIL = 2;
+
+	private final PeopleRecordFactory<T> factory;
+
+	public TypiCodePeopleSchema(PeopleRecordFactory<T> factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public int fieldCount() {
+		return 3;
+	}
+
+	@Override
+	public int fieldIndex(String name) {
+		return switch (name) {
+			case "id" -> ID;
+			case "name" -> NAME;
+			case "email" -> EMAIL;
+			default -> -1;
+		};
+	}
+
+	@Override
+	public T create(Object[] values) {
+		return factory.create(
+				values[ID] instanceof Number id ? id.intValue() : null,
+				(String) values[NAME],
+				(String) values[EMAIL]);
+	}
+}
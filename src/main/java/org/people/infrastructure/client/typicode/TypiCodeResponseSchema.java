@@ -0,0 +1,33 @@
+package org.people.infrastructure.client.typicode;
+
+import org.people.infrastructure.client.codec.JsonRecordSchema;
+
+public class TypiCodeResponseSchema implements JsonRecordSchema<TypiCodeResponse> {
+
+	private static final int ID = 0;
+	private static final int NAME = 1;
+	private static final int EMAIL = 2;
+
+	@Override
+	public int fieldCount() {
+		return 3;
+	}
+
+	@Override
+	public int fieldIndex(String name) {
+		return switch (name) {
+			case "id" -> ID;
+			case "name" -> NAME;
+			case "email" -> EMAIL;
+			default -> -1;
+		};
+	}
+
+	@Override
+	public TypiCodeResponse create(Object[] values) {
+		return new TypiCodeResponse(
+				values[ID] instanceof Number id ? id.intValue() : null,
+				(String) values[NAME],
+				(String) values[EMAIL]);
+	}
+}
@@ -1,16 +1,34 @@
 package org.people.infrastructure.config;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.people.domain.client.PeopleClient;
 import org.people.domain.enums.DataSource;
+import org.people.domain.enums.ServingMode;
 import org.people.domain.repository.PeopleRepository;
+import org.people.infrastructure.client.BatchingPeopleClient;
+import org.people.infrastructure.client.CircuitBreakingPeopleClient;
+import org.people.infrastructure.client.HedgingPeopleClient;
 import org.people.infrastructure.client.dummy.DummyClientImpl;
 import org.people.infrastructure.client.typicode.TypiCodeClientImpl;
+import org.people.infrastructure.repository.CachingPeopleRepository;
+import org.people.infrastructure.repository.CoalescingPeopleRepository;
+import org.people.infrastructure.repository.NegativeCachingPeopleRepository;
 import org.people.infrastructure.repository.PeopleRepositoryImpl;
+import org.people.infrastructure.repository.routing.AdaptiveRouter;
+import org.people.infrastructure.repository.search.SearchIndexingPeopleRepository;
+import org.people.infrastructure.repository.snapshot.PeopleSnapshotHolder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -20,15 +38,162 @@ public class RepositoryConfig {
 	public PeopleRepository peopleRepository(
 			TypiCodeClientImpl typiCodeClient,
 			DummyClientImpl dummyClient,
+			PeopleSnapshotHolder peopleSnapshotHolder,
+			ObjectProvider<AdaptiveRouter> adaptiveRouter,
 			@Value("${client.active-datasource:TYPICODE}")
-			String activeDataSourceStr) {
+			String activeDataSourceStr,
+			@Value("${client.serving-mode:REMOTE}")
+			String servingModeStr,
+			@Value("${client.cache.enabled:true}")
+			boolean cacheEnabled,
+			@Value("${client.cache.maximum-size:10000}")
+			long cacheMaximumSize,
+			@Value("${client.coalescing.enabled:true}")
+			boolean coalescingEnabled,
+			CircuitBreakerRegistry circuitBreakerRegistry,
+			Environment environment,
+			MeterRegistry meterRegistry) {
 
 		Map<DataSource, PeopleClient> clientStrategies = new HashMap<>();
-		clientStrategies.put(DataSource.TYPICODE, typiCodeClient);
-		clientStrategies.put(DataSource.DUMMY, dummyClient);
+		clientStrategies.put(DataSource.TYPICODE, withBatching(DataSource.TYPICODE,
+				withCircuitBreaker(DataSource.TYPICODE, typiCodeClient, circuitBreakerRegistry), environment, meterRegistry));
+		clientStrategies.put(DataSource.DUMMY, withBatching(DataSource.DUMMY,
+				withCircuitBreaker(DataSource.DUMMY, dummyClient, circuitBreakerRegistry), environment, meterRegistry));
 
 		DataSource activeDataSource = DataSource.valueOf(activeDataSourceStr.toUpperCase());
+		ServingMode servingMode = ServingMode.valueOf(servingModeStr.toUpperCase());
 
-		return new PeopleRepositoryImpl(clientStrategies, activeDataSource);
+		if (environment.getProperty("client.hedging.enabled", Boolean.class, false)) {
+			clientStrategies.put(activeDataSource, withHedging(activeDataSource, clientStrategies, environment, meterRegistry));
+		}
+
+		PeopleRepository repository = new PeopleRepositoryImpl(clientStrategies, activeDataSource,
+				servingMode, peopleSnapshotHolder, adaptiveRouter.getIfAvailable());
+
+		// A snapshot already serves every read from memory, so a per-id cache would only duplicate it
+		boolean cached = cacheEnabled && servingMode == ServingMode.REMOTE;
+		if (cached) {
+			String prefix = "client." + activeDataSource.name().toLowerCase() + ".cache.";
+			Duration ttl = environment.getProperty(prefix + "ttl", Duration.class, Duration.ofMinutes(5));
+			Duration staleWhileRevalidate = environment.getProperty(
+					prefix + "stale-while-revalidate", Duration.class, Duration.ofMinutes(1));
+
+			repository = new CachingPeopleRepository(repository, cacheMaximumSize, ttl, staleWhileRevalidate,
+					meterRegistry, activeDataSource.name());
+		}
+
+		if (servingMode == ServingMode.REMOTE && environment.getProperty("client.negative-cache.enabled", Boolean.class, true)) {
+			repository = new NegativeCachingPeopleRepository(repository,
+					environment.getProperty("client.negative-cache.ttl", Duration.class, Duration.ofSeconds(30)),
+					environment.getProperty("client.negative-cache.maximum-size", Long.class, 100_000L),
+					environment.getProperty("client.negative-cache.bloom-filter.enabled", Boolean.class, true),
+					environment.getProperty("client.negative-cache.bloom-filter.false-positive-rate", Double.class, 0.01),
+					environment.getProperty("client.negative-cache.bloom-filter.max-age", Duration.class, Duration.ofMinutes(10)),
+					meterRegistry);
+		}
+
+		// The cache already merges concurrent loads of the same id, so coalescing only runs without it
+		if (coalescingEnabled && !cached) {
+			repository = new CoalescingPeopleRepository(repository, meterRegistry);
+		}
+
+		if (environment.getProperty("client.search.enabled", Boolean.class, true)) {
+			repository = new SearchIndexingPeopleRepository(repository,
+					environment.getProperty("client.search.refresh-interval", Duration.class, Duration.ofMinutes(1)),
+					environment.getProperty("client.search.max-candidates", Integer.class, 1000),
+					environment.getProperty("client.search.email-negative-cache.ttl", Duration.class, Duration.ofSeconds(30)),
+					environment.getProperty("client.search.email-negative-cache.maximum-size", Long.class, 10_000L),
+					meterRegistry);
+		}
+
+		return repository;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "client.routing.mode", havingValue = "ADAPTIVE")
+	public AdaptiveRouter adaptiveRouter(
+			@Value("${client.active-datasource:TYPICODE}")
+			String activeDataSourceStr,
+			@Value("${client.routing.decay-window:10s}")
+			Duration decayWindow,
+			@Value("${client.routing.ejection-error-rate:0.5}")
+			double ejectionErrorRate,
+			@Value("${client.routing.ejection-duration:30s}")
+			Duration ejectionDuration,
+			@Value("${client.routing.initial-latency:100ms}")
+			Duration initialLatency,
+			@Value("${client.routing.same-dataset:false}")
+			boolean sameDataset,
+			MeterRegistry meterRegistry) {
+
+		// Caches, Bloom filter and search index are not keyed by source, so mixing datasets corrupts them
+		if (!sameDataset) {
+			throw new IllegalStateException("client.routing.mode=ADAPTIVE sends each request to any data source; "
+					+ "set client.routing.same-dataset=true only when all sources serve the same people");
+		}
+
+		DataSource preferred = DataSource.valueOf(activeDataSourceStr.toUpperCase());
+		return new AdaptiveRouter(List.of(DataSource.values()), preferred, decayWindow, ejectionErrorRate,
+				ejectionDuration, initialLatency, meterRegistry);
+	}
+
+	@Bean
+	public PeopleSnapshotHolder peopleSnapshotHolder(
+			TypiCodeClientImpl typiCodeClient,
+			DummyClientImpl dummyClient,
+			@Value("${client.active-datasource:TYPICODE}")
+			String activeDataSourceStr,
+			@Value("${client.serving-mode:REMOTE}")
+			String servingModeStr,
+			@Value("${client.snapshot.refresh-interval:5m}")
+			Duration refreshInterval,
+			@Value("${client.snapshot.initial-load-timeout:10s}")
+			Duration initialLoadTimeout,
+			@Value("${client.snapshot.persistence.enabled:false}")
+			boolean persistenceEnabled,
+			@Value("${client.snapshot.persistence.path:data/people-snapshot.bin}")
+			String persistencePath,
+			CircuitBreakerRegistry circuitBreakerRegistry,
+			MeterRegistry meterRegistry) {
+
+		DataSource activeDataSource = DataSource.valueOf(activeDataSourceStr.toUpperCase());
+		boolean enabled = ServingMode.valueOf(servingModeStr.toUpperCase()) == ServingMode.SNAPSHOT;
+		PeopleClient client = withCircuitBreaker(activeDataSource,
+				activeDataSource == DataSource.TYPICODE ? typiCodeClient : dummyClient, circuitBreakerRegistry);
+
+		return new PeopleSnapshotHolder(client, enabled, refreshInterval, initialLoadTimeout,
+				persistenceEnabled ? Path.of(persistencePath) : null,
+				meterRegistry, activeDataSource.name());
+	}
+
+	private PeopleClient withCircuitBreaker(DataSource dataSource, PeopleClient client,
+											CircuitBreakerRegistry circuitBreakerRegistry) {
+		String serviceName = dataSource == DataSource.TYPICODE ? "TypiCode API" : "Dummy API";
+		return new CircuitBreakingPeopleClient(client, circuitBreakerRegistry.circuitBreaker(dataSource.name()), serviceName);
+	}
+
+	private PeopleClient withHedging(DataSource primary, Map<DataSource, PeopleClient> clientStrategies,
+									 Environment environment, MeterRegistry meterRegistry) {
+		DataSource secondary = DataSource.valueOf(environment.getProperty("client.hedging.secondary-datasource",
+				primary == DataSource.TYPICODE ? DataSource.DUMMY.name() : DataSource.TYPICODE.name()).toUpperCase());
+		Duration delay = environment.getProperty("client.hedging.delay", Duration.class, Duration.ofMillis(200));
+		boolean usePercentile = "P95".equalsIgnoreCase(environment.getProperty("client.hedging.delay-mode", "FIXED"));
+		double maxHedgePercent = environment.getProperty("client.hedging.max-hedge-percent", Double.class, 10.0);
+
+		return new HedgingPeopleClient(clientStrategies.get(primary), clientStrategies.get(secondary), delay,
+				usePercentile, maxHedgePercent, meterRegistry, primary.name(), secondary.name());
+	}
+
+	private PeopleClient withBatching(DataSource dataSource, PeopleClient client,
+									  Environment environment, MeterRegistry meterRegistry) {
+		String prefix = "client." + dataSource.name().toLowerCase() + ".batching.";
+		if (!environment.getProperty(prefix + "enabled", Boolean.class, false)) {
+			return client;
+		}
+
+		Duration window = environment.getProperty(prefix + "window", Duration.class, Duration.ofMillis(2));
+		int maxBatchSize = environment.getProperty(prefix + "max-batch-size", Integer.class, 64);
+
+		return new BatchingPeopleClient(client, window, maxBatchSize, meterRegistry, dataSource.name());
 	}
 }
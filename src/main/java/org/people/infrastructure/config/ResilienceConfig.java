@@ -0,0 +1,71 @@
+package org.people.infrastructure.config;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.domain.enums.DataSource;
+import org.people.infrastructure.client.RetryPolicy;
+import org.people.infrastructure.logging.Logger;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+@Configuration
+public class ResilienceConfig {
+
+	private static final Logger logger = Logger.getLogger(ResilienceConfig.class);
+
+	@Bean
+	public RegistryEventConsumer<CircuitBreaker> circuitBreakerTransitionLogger(MeterRegistry meterRegistry) {
+		return new RegistryEventConsumer<>() {
+			@Override
+			public void onEntryAddedEvent(EntryAddedEvent<CircuitBreaker> entryAddedEvent) {
+				CircuitBreaker circuitBreaker = entryAddedEvent.getAddedEntry();
+				circuitBreaker.getEventPublisher().onStateTransition(event -> {
+					CircuitBreaker.StateTransition transition = event.getStateTransition();
+					meterRegistry.counter("people.client.circuit.transitions",
+							"datasource", event.getCircuitBreakerName(),
+							"from", transition.getFromState().name(),
+							"to", transition.getToState().name()).increment();
+					logger.warn("Circuit breaker state changed - datasource: {}, from: {}, to: {}",
+							event.getCircuitBreakerName(), transition.getFromState(), transition.getToState());
+				});
+			}
+
+			@Override
+			public void onEntryRemovedEvent(EntryRemovedEvent<CircuitBreaker> entryRemoveEvent) {
+			}
+
+			@Override
+			public void onEntryReplacedEvent(EntryReplacedEvent<CircuitBreaker> entryReplacedEvent) {
+			}
+		};
+	}
+
+	@Bean
+	public RetryPolicy typiCodeRetryPolicy(Environment environment, MeterRegistry meterRegistry) {
+		return retryPolicy(DataSource.TYPICODE, environment, meterRegistry);
+	}
+
+	@Bean
+	public RetryPolicy dummyRetryPolicy(Environment environment, MeterRegistry meterRegistry) {
+		return retryPolicy(DataSource.DUMMY, environment, meterRegistry);
+	}
+
+	private RetryPolicy retryPolicy(DataSource dataSource, Environment environment, MeterRegistry meterRegistry) {
+		String prefix = "client." + dataSource.name().toLowerCase() + ".retry.";
+		return new RetryPolicy(dataSource.name(),
+				environment.getProperty(prefix + "max-retries", Integer.class, 2),
+				environment.getProperty(prefix + "min-backoff", Duration.class, Duration.ofMillis(100)),
+				environment.getProperty(prefix + "max-backoff", Duration.class, Duration.ofSeconds(1)),
+				environment.getProperty(prefix + "min-attempt-time", Duration.class, Duration.ofMillis(50)),
+				environment.getProperty(prefix + "budget-percent", Double.class, 10.0),
+				environment.getProperty(prefix + "max-tokens", Integer.class, 10),
+				meterRegistry);
+	}
+}
@@ -1,99 +1,79 @@
 package org.people.infrastructure.config.client;
 
-import org.people.infrastructure.logging.LogContext;
-import org.people.infrastructure.logging.Logger;
-import org.people.infrastructure.logging.RequestContext;
-import org.springframework.beans.factory.annotation.Qualifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.application.dto.PeopleResponse;
+import org.people.domain.enums.DataSource;
+import org.people.infrastructure.client.ConditionalCache;
+import org.people.infrastructure.client.DeadlineExchangeFilter;
+import org.people.infrastructure.client.UpstreamExchangeFilter;
+import org.people.infrastructure.client.codec.JsonRecordSchema;
+import org.people.infrastructure.client.codec.StreamingJsonDecoder;
+import org.people.infrastructure.client.dummy.DummyListSettings;
+import org.people.infrastructure.client.dummy.DummyMapper;
+import org.people.infrastructure.client.dummy.DummyPeopleSchema;
+import org.people.infrastructure.client.dummy.DummyResponseSchema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.reactive.function.client.ClientRequest;
-import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
 @Configuration
 public class DummyClientConfig {
-	private static final Logger logger = Logger.getLogger(DummyClientConfig.class);
-	private static final String REQUEST_ID_HEADER = "X-Request-ID";
-	private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
 
 	@Bean
 	public WebClient dummyWebClient(WebClient.Builder builder,
-							  @Value("${client.dummy.base-url}") String baseUrl) {
+							  @Value("${client.dummy.base-url}") String baseUrl,
+							  StreamingJsonDecoder<PeopleResponse> dummyPeopleDecoder,
+							  UpstreamConnectorFactory upstreamConnectorFactory,
+							  UpstreamFilterFactory upstreamFilterFactory,
+							  MeterRegistry meterRegistry) {
+		// People bodies are tokenized incrementally, so only other payloads are bound by maxInMemorySize
 		ExchangeStrategies strategies = ExchangeStrategies.builder()
-				.codecs(c -> c.defaultCodecs()
-						.maxInMemorySize(5242880))
+				.codecs(c -> {
+					c.defaultCodecs().maxInMemorySize(5242880);
+					c.customCodecs().register(dummyPeopleDecoder);
+				})
 				.build();
 
 		return builder
 				.baseUrl(baseUrl)
+				.clientConnector(upstreamConnectorFactory.create(DataSource.DUMMY, baseUrl))
 				.exchangeStrategies(strategies)
-				.filter(addRequestIdHeader())
-				.filter(logRequest())
-				.filter(logResponse())
+				.filter(new DeadlineExchangeFilter("DUMMY", "Dummy API", meterRegistry))
+				.filter(upstreamFilterFactory.rateLimit(DataSource.DUMMY, "Dummy API"))
+				.filter(upstreamFilterFactory.responseTimeout(DataSource.DUMMY, "Dummy API"))
+				.filter(new UpstreamExchangeFilter("DUMMY", meterRegistry))
 				.build();
 	}
 
-	private ExchangeFilterFunction addRequestIdHeader() {
-		return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-			String requestId = RequestContext.getRequestId();
-			String correlationId = LogContext.get("correlation_id");
-
-			ClientRequest newRequest = ClientRequest.from(clientRequest)
-					.header(REQUEST_ID_HEADER, requestId)
-					.build();
-
-			if (correlationId != null) {
-				newRequest = ClientRequest.from(newRequest)
-						.header(CORRELATION_ID_HEADER, correlationId)
-						.build();
-			}
-
-			return Mono.just(newRequest);
-		});
+	@Bean
+	public DummyListSettings dummyListSettings(@Value("${client.dummy.list.page-size:100}") int pageSize,
+											   @Value("${client.dummy.list.concurrency:4}") int concurrency,
+											   @Value("${client.dummy.list.ordered:true}") boolean ordered) {
+		return new DummyListSettings(pageSize, concurrency, ordered);
 	}
 
-	private ExchangeFilterFunction logRequest() {
-		return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-			long startTime = System.currentTimeMillis();
-			LogContext.add("http.method", clientRequest.method().name());
-			LogContext.add("http.url", clientRequest.url().toString());
-			LogContext.add("http.start_time", String.valueOf(startTime));
-
-			logger.debug("HTTP Request - method: {}, url: {}",
-					clientRequest.method(),
-					clientRequest.url());
-
-			return Mono.just(clientRequest);
-		});
+	@Bean
+	public JsonRecordSchema<PeopleResponse> dummyPeopleSchema(@Value("${client.dummy.decoding.direct:true}") boolean direct,
+															  DummyMapper dummyMapper) {
+		// The direct schema builds PeopleResponse from the JSON values without the DummyResponse copy
+		return direct
+				? new DummyPeopleSchema<>(PeopleResponse::new)
+				: new DummyResponseSchema().andThen(dummyMapper::toPeopleResponse);
 	}
 
-	private ExchangeFilterFunction logResponse() {
-		return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-			String startTimeStr = LogContext.get("http.start_time");
-			long duration = 0;
-
-			if (startTimeStr != null) {
-				long startTime = Long.parseLong(startTimeStr);
-				duration = System.currentTimeMillis() - startTime;
-			}
-
-			LogContext.setDuration(duration);
-			LogContext.setStatusCode(String.valueOf(clientResponse.statusCode().value()));
-
-			if (clientResponse.statusCode().isError()) {
-				logger.warn("HTTP Response - status: {}, duration: {}ms",
-						clientResponse.statusCode(),
-						duration);
-			} else {
-				logger.debug("HTTP Response - status: {}, duration: {}ms",
-						clientResponse.statusCode(),
-						duration);
-			}
+	@Bean
+	public StreamingJsonDecoder<PeopleResponse> dummyPeopleDecoder(JsonRecordSchema<PeopleResponse> dummyPeopleSchema,
+																   ObjectMapper objectMapper) {
+		return new StreamingJsonDecoder<>(PeopleResponse.class, dummyPeopleSchema, objectMapper.getFactory());
+	}
 
-			return Mono.just(clientResponse);
-		});
+	@Bean
+	public ConditionalCache dummyConditionalCache(@Value("${client.dummy.conditional.enabled:true}") boolean enabled,
+												  @Value("${client.dummy.conditional.maximum-people:100000}") long maximumPeople,
+												  MeterRegistry meterRegistry) {
+		return new ConditionalCache("DUMMY", enabled, maximumPeople, meterRegistry);
 	}
 }
@@ -0,0 +1,82 @@
+package org.people.infrastructure.config.client;
+
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.people.domain.enums.DataSource;
+import org.people.infrastructure.logging.Logger;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Builds the HTTP connector of one upstream from {@code client.<datasource>.http.*}: a dedicated
+ * connection pool with bounded pending acquires and idle eviction, gzip and HTTP/2 negotiated
+ * through ALPN when the upstream offers them, and pool metrics under
+ * {@code reactor.netty.connection.provider.*} tagged with the pool name. A few connections are
+ * opened in the background at startup so the first requests do not pay for TCP and TLS.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamConnectorFactory {
+
+	private static final Logger logger = Logger.getLogger(UpstreamConnectorFactory.class);
+
+	private final Environment environment;
+
+	public ReactorClientHttpConnector create(DataSource dataSource, String baseUrl) {
+		String prefix = "client." + dataSource.name().toLowerCase() + ".http.";
+		String poolName = dataSource.name().toLowerCase();
+
+		ConnectionProvider provider = ConnectionProvider.builder(poolName)
+				.maxConnections(property(prefix + "max-connections", Integer.class, 50))
+				.pendingAcquireMaxCount(property(prefix + "pending-acquire-max-count", Integer.class, 500))
+				.pendingAcquireTimeout(property(prefix + "pending-acquire-timeout", Duration.class, Duration.ofSeconds(2)))
+				.maxIdleTime(property(prefix + "max-idle-time", Duration.class, Duration.ofSeconds(30)))
+				.maxLifeTime(property(prefix + "max-life-time", Duration.class, Duration.ofMinutes(5)))
+				.evictInBackground(property(prefix + "evict-interval", Duration.class, Duration.ofSeconds(30)))
+				.metrics(true)
+				.build();
+
+		HttpClient httpClient = HttpClient.create(provider)
+				.keepAlive(true)
+				.option(ChannelOption.SO_KEEPALIVE, true)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+						(int) property(prefix + "connect-timeout", Duration.class, Duration.ofSeconds(2)).toMillis())
+				.compress(property(prefix + "compression", Boolean.class, true));
+
+		if (property(prefix + "http2", Boolean.class, true)) {
+			httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+		}
+
+		warmUp(httpClient, baseUrl, poolName, property(prefix + "warmup-connections", Integer.class, 4));
+		return new ReactorClientHttpConnector(httpClient);
+	}
+
+	private void warmUp(HttpClient httpClient, String baseUrl, String poolName, int connections) {
+		if (connections <= 0) {
+			return;
+		}
+		// HEAD requests open and return pooled connections without transferring a body
+		httpClient.warmup()
+				.thenMany(Flux.range(0, connections)
+						.flatMap(i -> httpClient.head().uri(baseUrl).response()
+								.timeout(Duration.ofSeconds(5))
+								.onErrorResume(error -> {
+									logger.warn("Connection warm-up failed - pool: {}, error: {}", poolName, error.getMessage());
+									return Mono.empty();
+								})))
+				.count()
+				.subscribe(opened -> logger.info("Connection pool warmed up - pool: {}, connections: {}", poolName, opened));
+	}
+
+	private <T> T property(String key, Class<T> type, T defaultValue) {
+		return environment.getProperty(key, type, defaultValue);
+	}
+}
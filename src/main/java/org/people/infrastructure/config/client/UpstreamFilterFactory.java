@@ -0,0 +1,58 @@
+package org.people.infrastructure.config.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.people.domain.enums.DataSource;
+import org.people.infrastructure.client.AdaptiveTimeoutFilter;
+import org.people.infrastructure.client.RateLimitFilter;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import java.time.Duration;
+
+/**
+ * Builds the rate limit and response timeout filters of one upstream from
+ * {@code client.<datasource>.rate-limit.*} and {@code client.<datasource>.timeout.*}, so every
+ * client reads the same keys with the same defaults.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamFilterFactory {
+
+	private final Environment environment;
+	private final MeterRegistry meterRegistry;
+
+	public ExchangeFilterFunction rateLimit(DataSource dataSource, String serviceName) {
+		String prefix = prefix(dataSource) + "rate-limit.";
+		if (!property(prefix + "enabled", Boolean.class, false)) {
+			return (request, next) -> next.exchange(request);
+		}
+		return new RateLimitFilter(dataSource.name(), serviceName,
+				property(prefix + "permits-per-second", Double.class, 50.0),
+				property(prefix + "burst", Integer.class, 20),
+				RateLimitFilter.Policy.valueOf(property(prefix + "policy", String.class, "QUEUE").toUpperCase()),
+				property(prefix + "max-wait", Duration.class, Duration.ofMillis(500)),
+				meterRegistry);
+	}
+
+	public AdaptiveTimeoutFilter responseTimeout(DataSource dataSource, String serviceName) {
+		String prefix = prefix(dataSource) + "timeout.";
+		return new AdaptiveTimeoutFilter(dataSource.name(), serviceName,
+				"ADAPTIVE".equalsIgnoreCase(property(prefix + "mode", String.class, "ADAPTIVE")),
+				property(prefix + "static", Duration.class, Duration.ofSeconds(2)),
+				property(prefix + "percentile", Double.class, 0.99),
+				property(prefix + "factor", Double.class, 3.0),
+				property(prefix + "min", Duration.class, Duration.ofMillis(200)),
+				property(prefix + "max", Duration.class, Duration.ofSeconds(5)),
+				meterRegistry);
+	}
+
+	private String prefix(DataSource dataSource) {
+		return "client." + dataSource.name().toLowerCase() + ".";
+	}
+
+	private <T> T property(String key, Class<T> type, T defaultValue) {
+		return environment.getProperty(key, type, defaultValue);
+	}
+}
@@ -0,0 +1,43 @@
+package org.people.infrastructure.context;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Carries the deadline of the current gRPC call through the Reactor pipeline. The gRPC
+ * {@link Context} is thread-bound and lost once work hops schedulers, so the entrypoint copies
+ * the deadline into the subscriber context where upstream clients can read it.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class GrpcDeadlineContext {
+
+	public static final String DEADLINE_KEY = "grpc_deadline";
+
+	/**
+	 * Reads the deadline of the gRPC call active on the calling thread; must be invoked while
+	 * the call's {@link Context} is attached, e.g. directly inside a service method.
+	 */
+	public static Function<reactor.util.context.Context, reactor.util.context.Context> capture() {
+		Deadline deadline = Context.current().getDeadline();
+		return context -> deadline != null ? context.put(DEADLINE_KEY, deadline) : context;
+	}
+
+	public static Optional<Deadline> deadline(ContextView context) {
+		if (context.hasKey(DEADLINE_KEY)) {
+			return Optional.of(context.get(DEADLINE_KEY));
+		}
+		return Optional.ofNullable(Context.current().getDeadline());
+	}
+
+	public static Optional<Duration> remaining(ContextView context) {
+		return deadline(context).map(deadline -> Duration.ofNanos(deadline.timeRemaining(TimeUnit.NANOSECONDS)));
+	}
+}
@@ -0,0 +1,24 @@
+package org.people.infrastructure.entrypoint.actuator;
+
+import lombok.RequiredArgsConstructor;
+import org.people.infrastructure.repository.routing.AdaptiveRouter;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "routing")
+@ConditionalOnProperty(name = "client.routing.mode", havingValue = "ADAPTIVE")
+@RequiredArgsConstructor
+public class RoutingEndpoint {
+
+	private final AdaptiveRouter adaptiveRouter;
+
+	@ReadOperation
+	public Map<String, Object> routing() {
+		return adaptiveRouter.describe();
+	}
+}
@@ -0,0 +1,18 @@
+package org.people.infrastructure.entrypoint.grpc;
+
+import com.people.grpc.ServiceProto.PeopleResponseGrpc;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.people.application.dto.PeopleResponse;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class PeopleGrpcMapper {
+
+	static PeopleResponseGrpc toGrpc(PeopleResponse people) {
+		return PeopleResponseGrpc.newBuilder()
+				.setId(people.getId())
+				.setName(people.getName())
+				.setEmail(people.getEmail())
+				.build();
+	}
+}
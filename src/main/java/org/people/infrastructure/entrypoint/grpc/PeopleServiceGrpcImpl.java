@@ -1,43 +1,150 @@
 package org.people.infrastructure.entrypoint.grpc;
 
 import com.people.grpc.ReactorPeopleServiceGrpc;
+import com.people.grpc.ServiceProto.BatchGetPeopleRequestGrpc;
+import com.people.grpc.ServiceProto.BatchGetPeopleResponseGrpc;
 import com.people.grpc.ServiceProto.ListPeopleRequestGrpc;
 import com.people.grpc.ServiceProto.ListPeopleResponseGrpc;
+import com.people.grpc.ServiceProto.PeopleByEmailRequestGrpc;
 import com.people.grpc.ServiceProto.PeopleRequestGrpc;
 import com.people.grpc.ServiceProto.PeopleResponseGrpc;
+import com.people.grpc.ServiceProto.PeopleResultGrpc;
+import com.people.grpc.ServiceProto.SearchPeopleRequestGrpc;
+import com.people.grpc.ServiceProto.SearchPeopleResponseGrpc;
+import com.people.grpc.ServiceProto.StreamPeopleRequestGrpc;
 import lombok.RequiredArgsConstructor;
-import net.devh.boot.grpc.server.service.GrpcService;
+import org.people.application.dto.PeopleResponse;
 import org.people.application.service.PeopleService;
+import org.people.domain.exception.ValidationException;
+import org.people.infrastructure.context.GrpcDeadlineContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-@GrpcService
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Registered through {@link PreSerializedPeopleService}, which swaps in the cached response marshallers.
+ */
+@Component
 @RequiredArgsConstructor
 public class PeopleServiceGrpcImpl extends ReactorPeopleServiceGrpc.PeopleServiceImplBase {
+	private static final int MAX_CHUNK_SIZE = 1000;
+	private static final int MAX_BATCH_SIZE = 1000;
+	private static final int MAX_EMAIL_LENGTH = 254;
+	private static final int MAX_QUERY_LENGTH = 100;
+	private static final int DEFAULT_SEARCH_LIMIT = 10;
+	private static final int MAX_SEARCH_LIMIT = 100;
+
 	private final PeopleService peopleService;
+	private final SerializedResponseCache responseCache;
 
 	@Override
 	public Mono<PeopleResponseGrpc> getPeople(Mono<PeopleRequestGrpc> request) {
 		return request
 				.flatMap(req -> peopleService.getById(req.getId()))
-				.map(people -> PeopleResponseGrpc.newBuilder()
-						.setId(people.getId())
-						.setName(people.getName())
-						.setEmail(people.getEmail())
-						.build());
+				.map(responseCache::person)
+				.contextWrite(GrpcDeadlineContext.capture());
+	}
+
+	@Override
+	public Mono<PeopleResponseGrpc> getPeopleByEmail(Mono<PeopleByEmailRequestGrpc> request) {
+		return request
+				.flatMap(req -> {
+					String email = req.getEmail().trim();
+					if (email.isEmpty() || email.length() > MAX_EMAIL_LENGTH) {
+						return Mono.error(new ValidationException("Invalid email", "email",
+								String.format("must contain between 1 and %d characters", MAX_EMAIL_LENGTH)));
+					}
+					return peopleService.getByEmail(email);
+				})
+				.map(responseCache::person)
+				.contextWrite(GrpcDeadlineContext.capture());
 	}
 
 	@Override
 	public Mono<ListPeopleResponseGrpc> listPeople(Mono<ListPeopleRequestGrpc> request) {
 		return request
 				.flatMapMany(req -> peopleService.listAll())
-				.map(people -> PeopleResponseGrpc.newBuilder()
-						.setId(people.getId())
-						.setName(people.getName())
-						.setEmail(people.getEmail())
-						.build())
 				.collectList()
-				.map(peopleList -> ListPeopleResponseGrpc.newBuilder()
-						.addAllPeople(peopleList)
+				.map(responseCache::list)
+				.contextWrite(GrpcDeadlineContext.capture());
+	}
+
+	@Override
+	public Flux<ListPeopleResponseGrpc> streamPeople(Mono<StreamPeopleRequestGrpc> request) {
+		return request.flatMapMany(req -> {
+			int chunkSize = req.getChunkSize();
+			if (chunkSize < 0 || chunkSize > MAX_CHUNK_SIZE) {
+				return Flux.error(new ValidationException("Invalid chunk size", "chunk_size",
+						String.format("must be between 0 and %d", MAX_CHUNK_SIZE)));
+			}
+
+			Flux<PeopleResponseGrpc> people = peopleService.listAll().map(PeopleGrpcMapper::toGrpc);
+
+			// Each message is emitted as soon as it is complete; reactor-grpc only requests
+			// more upstream items when the transport is ready, so demand follows flow control.
+			if (chunkSize <= 1) {
+				return people.map(person -> ListPeopleResponseGrpc.newBuilder()
+						.addPeople(person)
 						.build());
+			}
+
+			return people
+					.buffer(chunkSize)
+					.map(chunk -> ListPeopleResponseGrpc.newBuilder()
+							.addAllPeople(chunk)
+							.build());
+		}).contextWrite(GrpcDeadlineContext.capture());
+	}
+
+	@Override
+	public Mono<BatchGetPeopleResponseGrpc> batchGetPeople(Mono<BatchGetPeopleRequestGrpc> request) {
+		return request.flatMap(req -> {
+			Set<Integer> ids = new LinkedHashSet<>(req.getIdsList());
+			if (ids.size() > MAX_BATCH_SIZE) {
+				return Mono.error(new ValidationException("Too many ids", "ids",
+						String.format("must contain at most %d distinct ids", MAX_BATCH_SIZE)));
+			}
+
+			return peopleService.getByIds(ids)
+					.collectMap(PeopleResponse::getId)
+					.map(found -> {
+						BatchGetPeopleResponseGrpc.Builder response = BatchGetPeopleResponseGrpc.newBuilder();
+						for (Integer id : ids) {
+							PeopleResultGrpc.Builder result = PeopleResultGrpc.newBuilder().setId(id);
+							PeopleResponse people = found.get(id);
+							if (people != null) {
+								result.setFound(true).setPeople(PeopleGrpcMapper.toGrpc(people));
+							}
+							response.addResults(result);
+						}
+						return response.build();
+					});
+		}).contextWrite(GrpcDeadlineContext.capture());
+	}
+
+	@Override
+	public Mono<SearchPeopleResponseGrpc> searchPeople(Mono<SearchPeopleRequestGrpc> request) {
+		return request.flatMap(req -> {
+			String query = req.getQuery().trim();
+			if (query.isEmpty() || query.length() > MAX_QUERY_LENGTH) {
+				return Mono.error(new ValidationException("Invalid query", "query",
+						String.format("must contain between 1 and %d characters", MAX_QUERY_LENGTH)));
+			}
+			int limit = req.getLimit() == 0 ? DEFAULT_SEARCH_LIMIT : req.getLimit();
+			if (limit < 0 || limit > MAX_SEARCH_LIMIT) {
+				return Mono.error(new ValidationException("Invalid limit", "limit",
+						String.format("must be between 0 and %d", MAX_SEARCH_LIMIT)));
+			}
+
+			return peopleService.search(query, limit)
+					.map(PeopleGrpcMapper::toGrpc)
+					.collectList()
+					.map(people -> SearchPeopleResponseGrpc.newBuilder()
+							.addAllPeople(people)
+							.build());
+		}).contextWrite(GrpcDeadlineContext.capture());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package org.people.infrastructure.entrypoint.grpc;
+
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.MethodDescriptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Function;
+
+/**
+ * Response marshaller that writes already serialized bytes when the lookup knows the message,
+ * and falls back to the protobuf marshaller otherwise. The stream is {@link Drainable} and
+ * {@link KnownLength}, so gRPC copies the array straight into the outbound frame.
+ */
+final class PreSerializedMarshaller<T> implements MethodDescriptor.Marshaller<T> {
+
+	private final MethodDescriptor.Marshaller<T> delegate;
+	private final Function<T, byte[]> lookup;
+	private final Counter hits;
+	private final Counter misses;
+
+	PreSerializedMarshaller(MethodDescriptor.Marshaller<T> delegate, Function<T, byte[]> lookup,
+							String method, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.lookup = lookup;
+		this.hits = counter(meterRegistry, method, "hit");
+		this.misses = counter(meterRegistry, method, "miss");
+	}
+
+	@Override
+	public InputStream stream(T value) {
+		byte[] bytes = lookup.apply(value);
+		if (bytes == null) {
+			misses.increment();
+			return delegate.stream(value);
+		}
+		hits.increment();
+		return new SerializedStream(bytes);
+	}
+
+	@Override
+	public T parse(InputStream stream) {
+		return delegate.parse(stream);
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String method, String result) {
+		return Counter.builder("people.grpc.response.cache")
+				.description("Responses written from pre-serialized bytes versus encoded on the fly")
+				.tag("method", method)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	private static final class SerializedStream extends ByteArrayInputStream implements Drainable, KnownLength {
+
+		private SerializedStream(byte[] bytes) {
+			super(bytes);
+		}
+
+		@Override
+		public int drainTo(OutputStream target) throws IOException {
+			int length = count - pos;
+			target.write(buf, pos, length);
+			pos = count;
+			return length;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package org.people.infrastructure.entrypoint.grpc;
+
+import com.people.grpc.PeopleServiceGrpc;
+import com.people.grpc.ServiceProto.ListPeopleResponseGrpc;
+import com.people.grpc.ServiceProto.PeopleResponseGrpc;
+import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import net.devh.boot.grpc.server.service.GrpcService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registers {@link PeopleServiceGrpcImpl} with the response marshallers of {@code GetPeople},
+ * {@code GetPeopleByEmail} and {@code ListPeople} swapped for {@link PreSerializedMarshaller}s
+ * backed by the {@link SerializedResponseCache}. The generated {@code bindService()} is final,
+ * so the definition is rebuilt here instead.
+ */
+@GrpcService
+@RequiredArgsConstructor
+public class PreSerializedPeopleService implements BindableService {
+
+	private final PeopleServiceGrpcImpl peopleService;
+	private final SerializedResponseCache responseCache;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public ServerServiceDefinition bindService() {
+		ServerServiceDefinition definition = peopleService.bindService();
+		if (!responseCache.isEnabled()) {
+			return definition;
+		}
+
+		ServiceDescriptor original = definition.getServiceDescriptor();
+		ServiceDescriptor.Builder descriptor = ServiceDescriptor.newBuilder(original.getName())
+				.setSchemaDescriptor(original.getSchemaDescriptor());
+		List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+		for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+			ServerMethodDefinition<?, ?> rebound = rebind(method);
+			descriptor.addMethod(rebound.getMethodDescriptor());
+			methods.add(rebound);
+		}
+
+		ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptor.build());
+		methods.forEach(builder::addMethod);
+		return builder.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <Req, Resp> ServerMethodDefinition<Req, Resp> rebind(ServerMethodDefinition<Req, Resp> method) {
+		MethodDescriptor<Req, Resp> descriptor = method.getMethodDescriptor();
+		String name = descriptor.getFullMethodName();
+
+		MethodDescriptor.Marshaller<?> marshaller;
+		if (name.equals(PeopleServiceGrpc.getGetPeopleMethod().getFullMethodName())
+				|| name.equals(PeopleServiceGrpc.getGetPeopleByEmailMethod().getFullMethodName())) {
+			marshaller = new PreSerializedMarshaller<>(
+					(MethodDescriptor.Marshaller<PeopleResponseGrpc>) descriptor.getResponseMarshaller(),
+					responseCache::serialized, descriptor.getBareMethodName(), meterRegistry);
+		} else if (name.equals(PeopleServiceGrpc.getListPeopleMethod().getFullMethodName())) {
+			marshaller = new PreSerializedMarshaller<>(
+					(MethodDescriptor.Marshaller<ListPeopleResponseGrpc>) descriptor.getResponseMarshaller(),
+					responseCache::serialized, descriptor.getBareMethodName(), meterRegistry);
+		} else {
+			return method;
+		}
+
+		return ServerMethodDefinition.create(
+				descriptor.toBuilder()
+						.setResponseMarshaller((MethodDescriptor.Marshaller<Resp>) marshaller)
+						.build(),
+				method.getServerCallHandler());
+	}
+}
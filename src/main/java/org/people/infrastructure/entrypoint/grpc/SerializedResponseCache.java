@@ -0,0 +1,114 @@
+package org.people.infrastructure.entrypoint.grpc;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.people.grpc.ServiceProto.ListPeopleResponseGrpc;
+import com.people.grpc.ServiceProto.PeopleResponseGrpc;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.application.dto.PeopleResponse;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the wire bytes of the last {@code GetPeople} answer per id and of the last
+ * {@code ListPeople} answer. A person is only reused while id, name and email are unchanged;
+ * the list blob carries a dataset version that moves whenever the listed people differ from
+ * the cached ones, which drops the old blob. {@link PreSerializedPeopleService} hands the
+ * cached bytes to the transport when the response message is the cached instance.
+ */
+@Component
+public class SerializedResponseCache {
+
+	private final boolean enabled;
+	private final Cache<Integer, PersonEntry> people;
+	private final AtomicLong datasetVersion = new AtomicLong();
+
+	private volatile ListEntry list;
+
+	public SerializedResponseCache(Environment environment, MeterRegistry meterRegistry) {
+		this.enabled = environment.getProperty("grpc.response-cache.enabled", Boolean.class, true);
+		this.people = Caffeine.newBuilder()
+				.maximumSize(environment.getProperty("grpc.response-cache.maximum-size", Long.class, 10_000L))
+				.build();
+
+		Gauge.builder("people.grpc.response.cache.version", datasetVersion, AtomicLong::get)
+				.description("Dataset version of the cached ListPeople response")
+				.register(meterRegistry);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public PeopleResponseGrpc person(PeopleResponse source) {
+		if (!enabled) {
+			return PeopleGrpcMapper.toGrpc(source);
+		}
+		PersonEntry entry = people.getIfPresent(source.getId());
+		if (entry != null && sameFields(entry.message(), source)) {
+			return entry.message();
+		}
+		PeopleResponseGrpc message = PeopleGrpcMapper.toGrpc(source);
+		people.put(source.getId(), new PersonEntry(message, message.toByteArray()));
+		return message;
+	}
+
+	public ListPeopleResponseGrpc list(List<PeopleResponse> sources) {
+		ListEntry entry = list;
+		if (entry != null && sameDataset(entry.message(), sources)) {
+			return entry.message();
+		}
+
+		ListPeopleResponseGrpc.Builder builder = ListPeopleResponseGrpc.newBuilder();
+		for (PeopleResponse source : sources) {
+			builder.addPeople(person(source));
+		}
+		ListPeopleResponseGrpc message = builder.build();
+		if (enabled) {
+			list = new ListEntry(datasetVersion.incrementAndGet(), message, message.toByteArray());
+		}
+		return message;
+	}
+
+	/**
+	 * Cached bytes of {@code message}, or {@code null} when it is not the cached instance.
+	 */
+	byte[] serialized(PeopleResponseGrpc message) {
+		PersonEntry entry = people.getIfPresent(message.getId());
+		return entry != null && entry.message() == message ? entry.bytes() : null;
+	}
+
+	byte[] serialized(ListPeopleResponseGrpc message) {
+		ListEntry entry = list;
+		return entry != null && entry.message() == message ? entry.bytes() : null;
+	}
+
+	private static boolean sameDataset(ListPeopleResponseGrpc cached, List<PeopleResponse> sources) {
+		if (cached.getPeopleCount() != sources.size()) {
+			return false;
+		}
+		for (int i = 0; i < sources.size(); i++) {
+			if (!sameFields(cached.getPeople(i), sources.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean sameFields(PeopleResponseGrpc message, PeopleResponse source) {
+		return Objects.equals(message.getId(), source.getId())
+				&& message.getName().equals(source.getName())
+				&& message.getEmail().equals(source.getEmail());
+	}
+
+	private record PersonEntry(PeopleResponseGrpc message, byte[] bytes) {
+	}
+
+	private record ListEntry(long version, ListPeopleResponseGrpc message, byte[] bytes) {
+	}
+}
@@ -0,0 +1,26 @@
+package org.people.infrastructure.exception;
+
+import io.grpc.Status;
+import org.people.domain.exception.PeopleException;
+
+public class RateLimitExceededException extends PeopleException {
+
+    private static final String DEFAULT_CODE = "RATE_LIMIT_EXCEEDED";
+    private static final int STATUS_CODE = Status.RESOURCE_EXHAUSTED.getCode().value();
+
+    private final String serviceName;
+
+    public RateLimitExceededException(String message, String serviceName) {
+        super(message, DEFAULT_CODE);
+        this.serviceName = serviceName;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return STATUS_CODE;
+    }
+}
@@ -0,0 +1,132 @@
+package org.people.infrastructure.repository;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.people.application.dto.PeopleResponse;
+import org.people.domain.repository.PeopleRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Read-through cache in front of a {@link PeopleRepository}.
+ * <p>
+ * Entries are fresh for {@code ttl}; after that they are still served for up to
+ * {@code staleWhileRevalidate} while a single background reload replaces them.
+ * Concurrent misses for the same id share one in-flight load. The load runs under the subscriber
+ * context of the caller that started it, so the upstream call sees that caller's gRPC deadline,
+ * and it is cancelled once every caller waiting on it has cancelled.
+ */
+public class CachingPeopleRepository implements PeopleRepository {
+
+	public static final String CACHE_NAME = "people";
+
+	private final PeopleRepository delegate;
+	private final AsyncLoadingCache<Integer, PeopleResponse> cache;
+	private final Map<CompletableFuture<PeopleResponse>, Integer> waiters = new ConcurrentHashMap<>();
+
+	public CachingPeopleRepository(PeopleRepository delegate,
+								   long maximumSize,
+								   Duration ttl,
+								   Duration staleWhileRevalidate,
+								   MeterRegistry meterRegistry,
+								   String dataSource) {
+		this.delegate = delegate;
+
+		Caffeine<Object, Object> builder = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl.plus(staleWhileRevalidate))
+				.recordStats();
+		if (!staleWhileRevalidate.isZero()) {
+			builder.refreshAfterWrite(ttl);
+		}
+		this.cache = builder.buildAsync(new PeopleCacheLoader());
+
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME, Tags.of("datasource", dataSource));
+	}
+
+	@Override
+	public Mono<PeopleResponse> findById(Integer id) {
+		return Mono.deferContextual(context -> join(id, context));
+	}
+
+	private Mono<PeopleResponse> join(Integer id, ContextView context) {
+		CompletableFuture<PeopleResponse> load = cache.get(id, (key, executor) -> delegate.findById(key)
+				.contextWrite(context)
+				.toFuture());
+		if (load.isDone()) {
+			return Mono.fromFuture(load);
+		}
+		if (waiters.compute(load, (future, count) -> future.isCancelled() ? null : count == null ? 1 : count + 1) == null) {
+			// the last waiter cancelled this load just now; start a new one
+			return join(id, context);
+		}
+		// Cancelling one subscriber must not cancel the load shared with the others
+		return Mono.fromFuture(load, true)
+				.doFinally(signal -> leave(load, signal == SignalType.CANCEL));
+	}
+
+	private void leave(CompletableFuture<PeopleResponse> load, boolean cancelled) {
+		waiters.computeIfPresent(load, (future, count) -> {
+			if (count > 1) {
+				return count - 1;
+			}
+			if (cancelled) {
+				// cancels the upstream subscription; the cache drops the failed entry
+				future.cancel(true);
+			}
+			return null;
+		});
+	}
+
+	@Override
+	public Mono<PeopleResponse> findByEmail(String email) {
+		return delegate.findByEmail(email);
+	}
+
+	@Override
+	public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+		return Mono.fromFuture(cache.getAll(ids), true)
+				.flatMapIterable(Map::values);
+	}
+
+	@Override
+	public Flux<PeopleResponse> findAll() {
+		return delegate.findAll();
+	}
+
+	@Override
+	public Flux<PeopleResponse> search(String query, int limit) {
+		return delegate.search(query, limit);
+	}
+
+	private class PeopleCacheLoader implements AsyncCacheLoader<Integer, PeopleResponse> {
+
+		@Override
+		public CompletableFuture<? extends PeopleResponse> asyncLoad(Integer id, Executor executor) {
+			return delegate.findById(id).toFuture();
+		}
+
+		@Override
+		public CompletableFuture<? extends Map<? extends Integer, ? extends PeopleResponse>> asyncLoadAll(
+				Set<? extends Integer> ids, Executor executor) {
+			return delegate.findByIds(Set.copyOf(ids))
+					.collectMap(PeopleResponse::getId, Function.identity())
+					.toFuture();
+		}
+	}
+}
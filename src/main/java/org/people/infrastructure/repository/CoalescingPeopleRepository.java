@@ -0,0 +1,84 @@
+package org.people.infrastructure.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.application.dto.PeopleResponse;
+import org.people.domain.repository.PeopleRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Single-flight layer: concurrent {@link #findById} calls for the same id share one
+ * upstream subscription. The shared call is cancelled only once every waiter has cancelled.
+ */
+public class CoalescingPeopleRepository implements PeopleRepository {
+
+	private final PeopleRepository delegate;
+	private final Map<Integer, Mono<PeopleResponse>> inFlight = new ConcurrentHashMap<>();
+	private final Counter coalescedCounter;
+
+	public CoalescingPeopleRepository(PeopleRepository delegate, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.coalescedCounter = Counter.builder("people.requests.coalesced")
+				.description("findById calls served by an already in-flight upstream call")
+				.tag("operation", "findById")
+				.register(meterRegistry);
+		Gauge.builder("people.requests.in_flight", inFlight, Map::size)
+				.description("Distinct ids with an upstream call in flight")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public Mono<PeopleResponse> findById(Integer id) {
+		return Mono.defer(() -> {
+			boolean[] created = {false};
+			Mono<PeopleResponse> call = inFlight.computeIfAbsent(id, key -> {
+				created[0] = true;
+				return sharedCall(key);
+			});
+			if (!created[0]) {
+				coalescedCounter.increment();
+			}
+			return call;
+		});
+	}
+
+	@Override
+	public Mono<PeopleResponse> findByEmail(String email) {
+		return delegate.findByEmail(email);
+	}
+
+	@Override
+	public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+		return delegate.findByIds(ids);
+	}
+
+	@Override
+	public Flux<PeopleResponse> findAll() {
+		return delegate.findAll();
+	}
+
+	@Override
+	public Flux<PeopleResponse> search(String query, int limit) {
+		return delegate.search(query, limit);
+	}
+
+	private Mono<PeopleResponse> sharedCall(Integer id) {
+		AtomicReference<Mono<PeopleResponse>> self = new AtomicReference<>();
+		// refCount(1) subscribes upstream on the first waiter and cancels it when the last one leaves
+		Mono<PeopleResponse> shared = delegate.findById(id)
+				.doFinally(signal -> inFlight.remove(id, self.get()))
+				.flux()
+				.publish()
+				.refCount(1)
+				.singleOrEmpty();
+		self.set(shared);
+		return shared;
+	}
+}
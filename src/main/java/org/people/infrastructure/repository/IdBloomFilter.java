@@ -0,0 +1,58 @@
+package org.people.infrastructure.repository;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over people ids. Sized for an expected number of ids and a target
+ * false-positive rate; ids can be added concurrently while readers query it.
+ */
+public class IdBloomFilter {
+
+	private final AtomicLongArray words;
+	private final long bitCount;
+	private final int hashCount;
+
+	public IdBloomFilter(long expectedIds, double falsePositiveRate) {
+		long expected = Math.max(1, expectedIds);
+		long bits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.bitCount = Math.max(64, (bits + 63) / 64 * 64);
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+		this.words = new AtomicLongArray((int) (bitCount / 64));
+	}
+
+	public void add(int id) {
+		long hash = mix(id);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			while (((current = words.get(word)) & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+				// another writer changed the word, retry with its value
+			}
+		}
+	}
+
+	public boolean mightContain(int id) {
+		long hash = mix(id);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+			if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long mix(int id) {
+		// SplitMix64 finalizer spreads sequential ids across the whole 64-bit range
+		long z = id * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
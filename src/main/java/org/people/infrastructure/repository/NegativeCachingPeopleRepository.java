@@ -0,0 +1,173 @@
+package org.people.infrastructure.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.application.dto.PeopleResponse;
+import org.people.domain.exception.PeopleNotFoundException;
+import org.people.domain.repository.PeopleRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Answers lookups for ids that cannot exist without an upstream call. Not-found results are
+ * remembered for a short TTL, and every complete {@link #findAll} swaps in a Bloom filter of
+ * the ids it returned; an id the filter has never seen is rejected in memory. Ids found later
+ * are added to the current filter, and a filter older than {@code bloomMaxAge} is no longer
+ * trusted, so people created upstream become reachable again at the latest after that.
+ */
+public class NegativeCachingPeopleRepository implements PeopleRepository {
+
+	private final PeopleRepository delegate;
+	private final Cache<Integer, Boolean> notFound;
+	private final boolean bloomEnabled;
+	private final double falsePositiveRate;
+	private final long bloomMaxAgeNanos;
+	private final Counter negativeCacheHits;
+	private final Counter bloomRejections;
+
+	private volatile KnownIds knownIds;
+
+	public NegativeCachingPeopleRepository(PeopleRepository delegate,
+										   Duration negativeTtl,
+										   long negativeMaximumSize,
+										   boolean bloomEnabled,
+										   double falsePositiveRate,
+										   Duration bloomMaxAge,
+										   MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.notFound = Caffeine.newBuilder()
+				.expireAfterWrite(negativeTtl)
+				.maximumSize(negativeMaximumSize)
+				.build();
+		this.bloomEnabled = bloomEnabled;
+		this.falsePositiveRate = falsePositiveRate;
+		this.bloomMaxAgeNanos = bloomMaxAge.toNanos();
+		this.negativeCacheHits = shortCircuitCounter(meterRegistry, "negative_cache");
+		this.bloomRejections = shortCircuitCounter(meterRegistry, "bloom_filter");
+	}
+
+	@Override
+	public Mono<PeopleResponse> findById(Integer id) {
+		return Mono.defer(() -> {
+			if (isKnownMissing(id)) {
+				return Mono.error(new PeopleNotFoundException(id));
+			}
+			return delegate.findById(id)
+					.doOnNext(people -> onFound(people.getId()))
+					.doOnError(PeopleNotFoundException.class, e -> notFound.put(id, Boolean.TRUE));
+		});
+	}
+
+	@Override
+	public Mono<PeopleResponse> findByEmail(String email) {
+		return delegate.findByEmail(email);
+	}
+
+	@Override
+	public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+		return Flux.defer(() -> {
+			Set<Integer> pending = new LinkedHashSet<>();
+			for (Integer id : ids) {
+				if (id != null && !isKnownMissing(id)) {
+					pending.add(id);
+				}
+			}
+			if (pending.isEmpty()) {
+				return Flux.empty();
+			}
+
+			Set<Integer> missing = new LinkedHashSet<>(pending);
+			return delegate.findByIds(pending)
+					.doOnNext(people -> {
+						missing.remove(people.getId());
+						onFound(people.getId());
+					})
+					.doOnComplete(() -> missing.forEach(id -> notFound.put(id, Boolean.TRUE)));
+		});
+	}
+
+	@Override
+	public Flux<PeopleResponse> findAll() {
+		if (!bloomEnabled) {
+			return delegate.findAll();
+		}
+		return Flux.defer(() -> {
+			IdCollector collector = new IdCollector();
+			return delegate.findAll()
+					.doOnNext(people -> collector.add(people.getId()))
+					.doOnComplete(() -> rebuild(collector));
+		});
+	}
+
+	@Override
+	public Flux<PeopleResponse> search(String query, int limit) {
+		return delegate.search(query, limit);
+	}
+
+	private boolean isKnownMissing(Integer id) {
+		if (notFound.getIfPresent(id) != null) {
+			negativeCacheHits.increment();
+			return true;
+		}
+		KnownIds current = knownIds;
+		if (current != null && System.nanoTime() - current.builtAt() < bloomMaxAgeNanos && !current.filter().mightContain(id)) {
+			bloomRejections.increment();
+			return true;
+		}
+		return false;
+	}
+
+	private void onFound(Integer id) {
+		if (id == null) {
+			return;
+		}
+		notFound.invalidate(id);
+		KnownIds current = knownIds;
+		if (current != null) {
+			current.filter().add(id);
+		}
+	}
+
+	private void rebuild(IdCollector collector) {
+		// headroom for ids discovered incrementally before the next full rebuild
+		IdBloomFilter filter = new IdBloomFilter(collector.size + collector.size / 4 + 64, falsePositiveRate);
+		for (int i = 0; i < collector.size; i++) {
+			filter.add(collector.ids[i]);
+		}
+		knownIds = new KnownIds(filter, System.nanoTime());
+		// ids the new listing may contain are no longer known to be missing
+		notFound.asMap().keySet().removeIf(filter::mightContain);
+	}
+
+	private Counter shortCircuitCounter(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder("people.requests.short_circuited")
+				.description("Lookups for unknown ids answered without an upstream call")
+				.tag("reason", reason)
+				.register(meterRegistry);
+	}
+
+	private record KnownIds(IdBloomFilter filter, long builtAt) {}
+
+	private static final class IdCollector {
+		private int[] ids = new int[256];
+		private int size;
+
+		private void add(Integer id) {
+			if (id == null) {
+				return;
+			}
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = id;
+		}
+	}
+}
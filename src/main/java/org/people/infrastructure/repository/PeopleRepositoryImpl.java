@@ -4,28 +4,118 @@ import lombok.RequiredArgsConstructor;
 import org.people.application.dto.PeopleResponse;
 import org.people.domain.client.PeopleClient;
 import org.people.domain.enums.DataSource;
+import org.people.domain.enums.ServingMode;
+import org.people.domain.exception.PeopleNotFoundException;
 import org.people.domain.repository.PeopleRepository;
+import org.people.infrastructure.repository.routing.AdaptiveRouter;
+import org.people.infrastructure.repository.search.PeopleSearchIndex;
+import org.people.infrastructure.repository.snapshot.PeopleSnapshot;
+import org.people.infrastructure.repository.snapshot.PeopleSnapshotHolder;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 @RequiredArgsConstructor
 public class PeopleRepositoryImpl implements PeopleRepository {
 	private final Map<DataSource, PeopleClient> clientStrategies;
 	private final DataSource activeDataSource;
+	private final ServingMode servingMode;
+	private final PeopleSnapshotHolder snapshotHolder;
+	private final AdaptiveRouter router;
 
-	private PeopleClient getActiveClient() {
-		return clientStrategies.get(activeDataSource);
+	private <T> Mono<T> routed(Function<PeopleClient, Mono<T>> call) {
+		if (router == null) {
+			return call.apply(clientStrategies.get(activeDataSource));
+		}
+		return Mono.defer(() -> {
+			AdaptiveRouter.Route route = router.choose();
+			return router.track(route, call.apply(clientStrategies.get(route.dataSource())));
+		});
+	}
+
+	private <T> Flux<T> routedMany(Function<PeopleClient, Flux<T>> call) {
+		if (router == null) {
+			return call.apply(clientStrategies.get(activeDataSource));
+		}
+		return Flux.defer(() -> {
+			AdaptiveRouter.Route route = router.choose();
+			return router.track(route, call.apply(clientStrategies.get(route.dataSource())));
+		});
+	}
+
+	private PeopleSnapshot getSnapshot() {
+		// Until the first snapshot is loaded, SNAPSHOT mode falls back to the upstream
+		return servingMode == ServingMode.SNAPSHOT ? snapshotHolder.current() : null;
 	}
 
 	@Override
 	public Mono<PeopleResponse> findById(Integer id) {
-		return getActiveClient().findById(id);
+		PeopleSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			PeopleResponse people = snapshot.find(id);
+			return people != null ? Mono.just(people) : Mono.error(new PeopleNotFoundException(id));
+		}
+		return routed(client -> client.findById(id));
+	}
+
+	@Override
+	public Mono<PeopleResponse> findByEmail(String email) {
+		// No id to key on: one listing is scanned and cancelled at the first match
+		String normalized = PeopleSearchIndex.normalize(email);
+		return findAll()
+				.filter(people -> normalized.equals(PeopleSearchIndex.normalize(people.getEmail())))
+				.next()
+				.switchIfEmpty(Mono.error(PeopleNotFoundException::forEmail));
+	}
+
+	@Override
+	public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+		Set<Integer> uniqueIds = new LinkedHashSet<>(ids);
+		uniqueIds.remove(null);
+		if (uniqueIds.isEmpty()) {
+			return Flux.empty();
+		}
+
+		PeopleSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			return Flux.fromIterable(uniqueIds)
+					.mapNotNull(snapshot::find);
+		}
+		return routedMany(client -> client.findByIds(uniqueIds));
 	}
 
 	@Override
 	public Flux<PeopleResponse> findAll() {
-		return getActiveClient().listAll();
+		PeopleSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			return Flux.fromIterable(snapshot.all());
+		}
+		return routedMany(PeopleClient::listAll);
+	}
+
+	@Override
+	public Flux<PeopleResponse> search(String query, int limit) {
+		// Without a maintained index, score the listing directly instead of indexing it per call
+		String normalized = PeopleSearchIndex.normalize(query);
+		if (normalized.isEmpty() || limit <= 0) {
+			return Flux.empty();
+		}
+		Comparator<Map.Entry<Integer, PeopleResponse>> ranking = Comparator
+				.<Map.Entry<Integer, PeopleResponse>>comparingInt(Map.Entry::getKey)
+				.thenComparing(match -> PeopleSearchIndex.normalize(match.getValue().getName()))
+				.thenComparing(match -> match.getValue().getId());
+		return findAll()
+				.filter(people -> people.getId() != null)
+				.map(people -> Map.entry(PeopleSearchIndex.score(people, normalized), people))
+				.filter(match -> match.getKey() >= 0)
+				.collectSortedList(ranking)
+				.flatMapIterable(matches -> matches.subList(0, Math.min(limit, matches.size())))
+				.map(Map.Entry::getValue);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,243 @@
+package org.people.infrastructure.repository.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.domain.enums.DataSource;
+import org.people.domain.exception.PeopleNotFoundException;
+import org.people.infrastructure.logging.Logger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks a {@link DataSource} per request from live upstream health. Each source keeps a
+ * peak-EWMA latency, an EWMA error rate and its in-flight count; two healthy candidates are
+ * sampled and the one with the lower cost wins (power of two choices). A source whose error
+ * rate crosses the threshold is ejected for a while and then re-admitted through a single
+ * probe request.
+ */
+public class AdaptiveRouter {
+
+	private static final Logger logger = Logger.getLogger(AdaptiveRouter.class);
+
+	private static final double ERROR_ALPHA = 0.1;
+	private static final int MIN_SAMPLES_FOR_EJECTION = 10;
+
+	private final Map<DataSource, UpstreamStats> stats = new EnumMap<>(DataSource.class);
+	private final DataSource preferred;
+	private final double decayNanos;
+	private final double ejectionErrorRate;
+	private final long ejectionNanos;
+
+	public AdaptiveRouter(Collection<DataSource> dataSources,
+						  DataSource preferred,
+						  Duration decayWindow,
+						  double ejectionErrorRate,
+						  Duration ejectionDuration,
+						  Duration initialLatency,
+						  MeterRegistry meterRegistry) {
+		this.preferred = preferred;
+		this.decayNanos = decayWindow.toNanos();
+		this.ejectionErrorRate = ejectionErrorRate;
+		this.ejectionNanos = ejectionDuration.toNanos();
+
+		for (DataSource dataSource : dataSources) {
+			stats.put(dataSource, new UpstreamStats(initialLatency.toNanos()));
+			Gauge.builder("people.routing.weight", this, router -> router.weights().getOrDefault(dataSource, 0.0))
+					.description("Share of traffic the router currently favours for the data source")
+					.tag("datasource", dataSource.name())
+					.register(meterRegistry);
+		}
+	}
+
+	public Route choose() {
+		long now = System.nanoTime();
+		List<DataSource> healthy = new ArrayList<>(stats.size());
+
+		for (Map.Entry<DataSource, UpstreamStats> entry : stats.entrySet()) {
+			UpstreamStats upstream = entry.getValue();
+			if (!upstream.isEjected()) {
+				healthy.add(entry.getKey());
+			} else if (upstream.ejectionExpired(now) && upstream.probeInFlight.compareAndSet(false, true)) {
+				// the first caller after the ejection window becomes the probe
+				return new Route(entry.getKey(), true);
+			}
+		}
+
+		if (healthy.isEmpty()) {
+			return new Route(preferred, false);
+		}
+		if (healthy.size() == 1) {
+			return new Route(healthy.get(0), false);
+		}
+
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int first = random.nextInt(healthy.size());
+		int second = random.nextInt(healthy.size() - 1);
+		if (second >= first) {
+			second++;
+		}
+		DataSource a = healthy.get(first);
+		DataSource b = healthy.get(second);
+		double costA = stats.get(a).cost();
+		double costB = stats.get(b).cost();
+		if (costA == costB) {
+			return new Route(a == preferred || b != preferred ? a : b, false);
+		}
+		return new Route(costA < costB ? a : b, false);
+	}
+
+	public <T> Mono<T> track(Route route, Mono<T> call) {
+		UpstreamStats upstream = stats.get(route.dataSource());
+		return Mono.defer(() -> {
+			long start = System.nanoTime();
+			upstream.inFlight.incrementAndGet();
+			return call
+					.doOnSuccess(value -> onSuccess(route, upstream, start))
+					.doOnError(error -> onError(route, upstream, start, error))
+					.doFinally(signal -> finish(route, upstream));
+		});
+	}
+
+	public <T> Flux<T> track(Route route, Flux<T> call) {
+		UpstreamStats upstream = stats.get(route.dataSource());
+		return Flux.defer(() -> {
+			long start = System.nanoTime();
+			upstream.inFlight.incrementAndGet();
+			return call
+					.doOnComplete(() -> onSuccess(route, upstream, start))
+					.doOnError(error -> onError(route, upstream, start, error))
+					.doFinally(signal -> finish(route, upstream));
+		});
+	}
+
+	/**
+	 * Normalized inverse-cost weights of the sources that are currently admitted.
+	 */
+	public Map<DataSource, Double> weights() {
+		Map<DataSource, Double> inverseCosts = new EnumMap<>(DataSource.class);
+		double total = 0;
+		for (Map.Entry<DataSource, UpstreamStats> entry : stats.entrySet()) {
+			double inverse = entry.getValue().isEjected() ? 0 : 1.0 / entry.getValue().cost();
+			inverseCosts.put(entry.getKey(), inverse);
+			total += inverse;
+		}
+		double sum = total;
+		inverseCosts.replaceAll((dataSource, inverse) -> sum > 0 ? inverse / sum : 0.0);
+		return inverseCosts;
+	}
+
+	public Map<String, Object> describe() {
+		Map<DataSource, Double> weights = weights();
+		Map<String, Object> description = new LinkedHashMap<>();
+		stats.forEach((dataSource, upstream) -> {
+			Map<String, Object> entry = new LinkedHashMap<>();
+			entry.put("weight", weights.get(dataSource));
+			entry.put("latencyEwmaMs", upstream.latencyEwma / 1_000_000.0);
+			entry.put("errorRate", upstream.errorRate);
+			entry.put("inFlight", upstream.inFlight.get());
+			entry.put("ejected", upstream.isEjected());
+			description.put(dataSource.name(), entry);
+		});
+		return description;
+	}
+
+	private void finish(Route route, UpstreamStats upstream) {
+		upstream.inFlight.decrementAndGet();
+		if (route.probe()) {
+			upstream.probeInFlight.set(false);
+		}
+	}
+
+	private void onSuccess(Route route, UpstreamStats upstream, long start) {
+		long now = System.nanoTime();
+		synchronized (upstream) {
+			upstream.observeLatency(now - start, now, decayNanos);
+			upstream.errorRate = upstream.errorRate * (1 - ERROR_ALPHA);
+			upstream.samples++;
+			if (route.probe() && upstream.ejectedUntil != 0) {
+				// probe succeeded: forget the failure history and re-admit
+				upstream.ejectedUntil = 0;
+				upstream.errorRate = 0;
+				upstream.samples = 0;
+				logger.info("Upstream re-admitted after probe - datasource: {}", route.dataSource());
+			}
+		}
+	}
+
+	private void onError(Route route, UpstreamStats upstream, long start, Throwable error) {
+		if (error instanceof PeopleNotFoundException) {
+			// a definitive answer from a healthy upstream
+			onSuccess(route, upstream, start);
+			return;
+		}
+		long now = System.nanoTime();
+		synchronized (upstream) {
+			upstream.observeLatency(now - start, now, decayNanos);
+			upstream.errorRate = upstream.errorRate * (1 - ERROR_ALPHA) + ERROR_ALPHA;
+			upstream.samples++;
+			boolean probeFailed = route.probe() && upstream.ejectedUntil != 0;
+			if (probeFailed || (upstream.samples >= MIN_SAMPLES_FOR_EJECTION && upstream.errorRate >= ejectionErrorRate)) {
+				upstream.ejectedUntil = now + ejectionNanos;
+				logger.warn("Upstream ejected - datasource: {}, errorRate: {}, probeFailed: {}",
+						route.dataSource(), String.format("%.2f", upstream.errorRate), probeFailed);
+			}
+		}
+	}
+
+	/**
+	 * The source chosen for one request; {@code probe} marks the single request that may
+	 * re-admit an ejected source.
+	 */
+	public record Route(DataSource dataSource, boolean probe) {}
+
+	private static final class UpstreamStats {
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final AtomicBoolean probeInFlight = new AtomicBoolean();
+		private volatile double latencyEwma;
+		private volatile long lastUpdate;
+		private volatile double errorRate;
+		private volatile long ejectedUntil;
+		private long samples;
+
+		private UpstreamStats(long initialLatencyNanos) {
+			this.latencyEwma = initialLatencyNanos;
+			this.lastUpdate = System.nanoTime();
+		}
+
+		private void observeLatency(long rtt, long now, double decayNanos) {
+			// peak EWMA: jump straight to a slower sample, decay towards faster ones over time
+			if (rtt > latencyEwma) {
+				latencyEwma = rtt;
+			} else {
+				double weight = Math.exp(-(now - lastUpdate) / decayNanos);
+				latencyEwma = latencyEwma * weight + rtt * (1 - weight);
+			}
+			lastUpdate = now;
+		}
+
+		private double cost() {
+			double successRate = Math.max(0.05, 1 - errorRate);
+			return latencyEwma * (inFlight.get() + 1) / successRate;
+		}
+
+		private boolean isEjected() {
+			return ejectedUntil != 0;
+		}
+
+		private boolean ejectionExpired(long now) {
+			long until = ejectedUntil;
+			return until != 0 && now - until >= 0;
+		}
+	}
+}
@@ -0,0 +1,244 @@
+package org.people.infrastructure.repository.search;
+
+import org.people.application.dto.PeopleResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable autocomplete index over {@code name} and {@code email}. Every trigram of both fields
+ * and the first one and two characters of every word are posting keys; postings hold document
+ * positions in name order. A query reads the shortest posting list of its keys and verifies at
+ * most {@code maxCandidates} documents, so its cost is bounded by the query, not the dataset.
+ * <p>
+ * Matches rank name prefix, then word prefix in the name, email prefix, word prefix in the
+ * email, and plain substrings last; ties keep name order. On a very common key only the first
+ * {@code maxCandidates} documents in name order are considered.
+ * <p>
+ * A secondary hash index maps each normalized email to its person for exact lookups; when
+ * two people share an email the first in name order wins.
+ */
+public final class PeopleSearchIndex {
+
+	private static final int GRAM = 3;
+	private static final int WORD_PREFIX = 2;
+
+	private final Doc[] docs;
+	private final Map<Integer, Doc> byId;
+	private final Map<String, PeopleResponse> byEmail;
+	private final Map<String, int[]> postings;
+	private final int maxCandidates;
+
+	private PeopleSearchIndex(Doc[] docs, Map<Integer, Doc> byId, Map<String, PeopleResponse> byEmail,
+							  Map<String, int[]> postings, int maxCandidates) {
+		this.docs = docs;
+		this.byId = byId;
+		this.byEmail = byEmail;
+		this.postings = postings;
+		this.maxCandidates = maxCandidates;
+	}
+
+	public static PeopleSearchIndex of(Collection<PeopleResponse> people, int maxCandidates) {
+		return rebuild(null, people, maxCandidates);
+	}
+
+	/**
+	 * Builds the index for {@code people}, reusing the keys of every person whose name and email
+	 * are unchanged in {@code previous}. Returns {@code previous} itself when nothing changed.
+	 */
+	public static PeopleSearchIndex rebuild(PeopleSearchIndex previous, Collection<PeopleResponse> people, int maxCandidates) {
+		Map<Integer, Doc> byId = new HashMap<>(Math.max(16, people.size() * 4 / 3 + 1));
+		boolean changed = previous == null || previous.maxCandidates != maxCandidates;
+		for (PeopleResponse person : people) {
+			if (person.getId() == null) {
+				continue;
+			}
+			Doc old = previous != null ? previous.byId.get(person.getId()) : null;
+			Doc doc = old != null && old.sameFields(person) ? old : Doc.of(person);
+			changed |= doc != old;
+			byId.put(person.getId(), doc);
+		}
+		if (!changed && byId.size() == previous.byId.size()) {
+			return previous;
+		}
+
+		Doc[] docs = byId.values().toArray(Doc[]::new);
+		Arrays.sort(docs, Comparator.comparing(Doc::name).thenComparing(doc -> doc.people().getId()));
+
+		Map<String, PeopleResponse> byEmail = new HashMap<>(byId.size());
+		for (Doc doc : docs) {
+			if (!doc.email().isEmpty()) {
+				byEmail.putIfAbsent(doc.email(), doc.people());
+			}
+		}
+
+		// two passes so every posting list is allocated once at its final size
+		Map<String, int[]> counts = new HashMap<>();
+		for (Doc doc : docs) {
+			for (String key : doc.keys()) {
+				counts.computeIfAbsent(key, k -> new int[1])[0]++;
+			}
+		}
+		Map<String, int[]> postings = new HashMap<>(counts.size() * 4 / 3 + 1);
+		counts.forEach((key, count) -> postings.put(key, new int[count[0]]));
+		for (int position = 0; position < docs.length; position++) {
+			for (String key : docs[position].keys()) {
+				int[] count = counts.get(key);
+				int[] posting = postings.get(key);
+				posting[posting.length - count[0]--] = position;
+			}
+		}
+		return new PeopleSearchIndex(docs, byId, byEmail, postings, maxCandidates);
+	}
+
+	public List<PeopleResponse> search(String query, int limit) {
+		String normalized = normalize(query);
+		if (normalized.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+
+		int[] candidates = candidates(normalized);
+		if (candidates == null) {
+			return List.of();
+		}
+
+		List<long[]> matches = new ArrayList<>();
+		int bestMatches = 0;
+		int scanned = Math.min(candidates.length, maxCandidates);
+		for (int i = 0; i < scanned && bestMatches < limit; i++) {
+			int position = candidates[i];
+			int score = docs[position].score(normalized);
+			if (score >= 0) {
+				matches.add(new long[]{score, position});
+				if (score == 0) {
+					// later candidates come after in name order and cannot outrank these
+					bestMatches++;
+				}
+			}
+		}
+
+		matches.sort(Comparator.<long[]>comparingLong(match -> match[0]).thenComparingLong(match -> match[1]));
+		List<PeopleResponse> result = new ArrayList<>(Math.min(limit, matches.size()));
+		for (int i = 0; i < matches.size() && i < limit; i++) {
+			result.add(docs[(int) matches.get(i)[1]].people());
+		}
+		return result;
+	}
+
+	/**
+	 * Person with the given email, compared case-insensitively, or {@code null}.
+	 */
+	public PeopleResponse findByEmail(String email) {
+		return byEmail.get(normalize(email));
+	}
+
+	public int size() {
+		return docs.length;
+	}
+
+	private int[] candidates(String query) {
+		if (query.length() < GRAM) {
+			return postings.get(query);
+		}
+		int[] shortest = null;
+		for (int i = 0; i + GRAM <= query.length(); i++) {
+			int[] posting = postings.get(query.substring(i, i + GRAM));
+			if (posting == null) {
+				return null;
+			}
+			if (shortest == null || posting.length < shortest.length) {
+				shortest = posting;
+			}
+		}
+		return shortest;
+	}
+
+	public static String normalize(String text) {
+		return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Rank of {@code people} for a {@link #normalize normalized} query, in the order {@link #search}
+	 * uses (0 is best), or -1 when neither field contains the query. Lets a caller without an
+	 * index score a listing directly.
+	 */
+	public static int score(PeopleResponse people, String normalizedQuery) {
+		return score(normalize(people.getName()), normalize(people.getEmail()), normalizedQuery);
+	}
+
+	private static int score(String name, String email, String query) {
+		if (name.startsWith(query)) {
+			return 0;
+		}
+		if (containsAtWordStart(name, query)) {
+			return 1;
+		}
+		if (email.startsWith(query)) {
+			return 2;
+		}
+		if (containsAtWordStart(email, query)) {
+			return 3;
+		}
+		if (name.contains(query)) {
+			return 4;
+		}
+		return email.contains(query) ? 5 : -1;
+	}
+
+	private static boolean containsAtWordStart(String text, String query) {
+		for (int i = text.indexOf(query); i >= 0; i = text.indexOf(query, i + 1)) {
+			if (isWordStart(text, i)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isWordStart(String text, int index) {
+		return Character.isLetterOrDigit(text.charAt(index))
+				&& (index == 0 || !Character.isLetterOrDigit(text.charAt(index - 1)));
+	}
+
+	private record Doc(PeopleResponse people, String name, String email, Set<String> keys) {
+
+		static Doc of(PeopleResponse people) {
+			String name = normalize(people.getName());
+			String email = normalize(people.getEmail());
+			Set<String> keys = new LinkedHashSet<>();
+			addKeys(name, keys);
+			addKeys(email, keys);
+			return new Doc(people, name, email, Set.copyOf(keys));
+		}
+
+		private static void addKeys(String text, Set<String> keys) {
+			for (int i = 0; i + GRAM <= text.length(); i++) {
+				keys.add(text.substring(i, i + GRAM));
+			}
+			for (int i = 0; i < text.length(); i++) {
+				if (isWordStart(text, i)) {
+					for (int length = 1; length <= WORD_PREFIX && i + length <= text.length()
+							&& Character.isLetterOrDigit(text.charAt(i + length - 1)); length++) {
+						keys.add(text.substring(i, i + length));
+					}
+				}
+			}
+		}
+
+		boolean sameFields(PeopleResponse other) {
+			return Objects.equals(people.getName(), other.getName()) && Objects.equals(people.getEmail(), other.getEmail());
+		}
+
+		int score(String query) {
+			return PeopleSearchIndex.score(name, email, query);
+		}
+	}
+}
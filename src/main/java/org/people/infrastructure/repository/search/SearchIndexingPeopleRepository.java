@@ -0,0 +1,194 @@
+package org.people.infrastructure.repository.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.application.dto.PeopleResponse;
+import org.people.domain.exception.PeopleNotFoundException;
+import org.people.domain.repository.PeopleRepository;
+import org.people.infrastructure.logging.Logger;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Answers {@link #search} and {@link #findByEmail} from a {@link PeopleSearchIndex}. A scheduled
+ * listing every {@code refreshInterval} rebuilds the index incrementally, off the request path
+ * and off the event loop; {@link #findAll} streams through untouched. Until the first build,
+ * concurrent searches share one listing that builds the index on the spot. An email the index
+ * does not know is looked up through the delegate, which scans one listing, unless the index was
+ * just built for this call. Emails that scan did not find either are remembered for
+ * {@code emailNegativeTtl}, so repeated unknown emails cost one scan per TTL; a rebuild that
+ * indexes one of them forgets it early.
+ * <p>
+ * Each rebuild is published with a single volatile write, so readers never wait for it and
+ * always see one consistent dataset.
+ */
+public class SearchIndexingPeopleRepository implements PeopleRepository, SmartLifecycle {
+
+	private static final Logger logger = Logger.getLogger(SearchIndexingPeopleRepository.class);
+
+	private final PeopleRepository delegate;
+	private final Duration refreshInterval;
+	private final int maxCandidates;
+	private final Counter rebuilt;
+	private final Counter unchanged;
+	private final Counter emailHits;
+	private final Counter emailMisses;
+	private final Counter emailNegativeHits;
+	private final Cache<String, Boolean> missedEmails;
+	private final Mono<PeopleSearchIndex> initialLoad;
+
+	private volatile PeopleSearchIndex index;
+	private volatile Disposable refreshTask;
+
+	public SearchIndexingPeopleRepository(PeopleRepository delegate,
+										  Duration refreshInterval,
+										  int maxCandidates,
+										  Duration emailNegativeTtl,
+										  long emailNegativeMaximumSize,
+										  MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.refreshInterval = refreshInterval;
+		this.maxCandidates = maxCandidates;
+		this.rebuilt = rebuildCounter(meterRegistry, "rebuilt");
+		this.unchanged = rebuildCounter(meterRegistry, "unchanged");
+		this.emailHits = emailLookupCounter(meterRegistry, "index");
+		this.emailMisses = emailLookupCounter(meterRegistry, "list_scan");
+		this.emailNegativeHits = emailLookupCounter(meterRegistry, "negative_cache");
+		this.missedEmails = Caffeine.newBuilder()
+				.expireAfterWrite(emailNegativeTtl)
+				.maximumSize(emailNegativeMaximumSize)
+				.build();
+		// concurrent searches before the first build share one listing; a failed one is retried
+		this.initialLoad = Mono.defer(this::refresh)
+				.cache(built -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+
+		Gauge.builder("people.search.index.size", this, repository -> {
+					PeopleSearchIndex current = repository.index;
+					return current != null ? current.size() : 0;
+				})
+				.description("People in the search index")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public Mono<PeopleResponse> findById(Integer id) {
+		return delegate.findById(id);
+	}
+
+	@Override
+	public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+		return delegate.findByIds(ids);
+	}
+
+	@Override
+	public Flux<PeopleResponse> findAll() {
+		return delegate.findAll();
+	}
+
+	@Override
+	public Mono<PeopleResponse> findByEmail(String email) {
+		return Mono.defer(() -> {
+			PeopleSearchIndex current = index;
+			if (current == null) {
+				// the index is built from a listing taken for this call, so a miss needs no second scan
+				return initialLoad
+						.mapNotNull(built -> built.findByEmail(email))
+						.doOnNext(people -> emailHits.increment())
+						.switchIfEmpty(Mono.error(PeopleNotFoundException::forEmail))
+						.doOnError(PeopleNotFoundException.class, e -> rememberMissed(email));
+			}
+			return Mono.justOrEmpty(current.findByEmail(email))
+					.doOnNext(people -> emailHits.increment())
+					.switchIfEmpty(Mono.defer(() -> {
+						if (missedEmails.getIfPresent(PeopleSearchIndex.normalize(email)) != null) {
+							emailNegativeHits.increment();
+							return Mono.error(PeopleNotFoundException.forEmail());
+						}
+						emailMisses.increment();
+						return delegate.findByEmail(email)
+								.doOnError(PeopleNotFoundException.class, e -> rememberMissed(email));
+					}));
+		});
+	}
+
+	@Override
+	public Flux<PeopleResponse> search(String query, int limit) {
+		return Mono.defer(() -> Mono.justOrEmpty(index))
+				.switchIfEmpty(initialLoad)
+				.flatMapIterable(current -> current.search(query, limit));
+	}
+
+	@Override
+	public void start() {
+		refreshTask = Flux.interval(refreshInterval, refreshInterval)
+				.onBackpressureDrop()
+				.concatMap(tick -> refresh().onErrorResume(error -> {
+					logger.warn("Search index refresh failed, keeping previous index - error: {}", error.getMessage());
+					return Mono.empty();
+				}))
+				.subscribe();
+	}
+
+	@Override
+	public void stop() {
+		Disposable task = refreshTask;
+		if (task != null) {
+			task.dispose();
+			refreshTask = null;
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return refreshTask != null;
+	}
+
+	private Mono<PeopleSearchIndex> refresh() {
+		return delegate.findAll()
+				.collectList()
+				// the rebuild is O(n) and serialized; keep it off the event loop that delivered the listing
+				.publishOn(Schedulers.boundedElastic())
+				.map(this::reindex);
+	}
+
+	private synchronized PeopleSearchIndex reindex(List<PeopleResponse> people) {
+		PeopleSearchIndex previous = index;
+		PeopleSearchIndex next = PeopleSearchIndex.rebuild(previous, people, maxCandidates);
+		if (next == previous) {
+			unchanged.increment();
+		} else {
+			index = next;
+			// emails the new index knows are no longer missing
+			missedEmails.asMap().keySet().removeIf(email -> next.findByEmail(email) != null);
+			rebuilt.increment();
+			logger.info("People search index rebuilt - size: {}", next.size());
+		}
+		return next;
+	}
+
+	private void rememberMissed(String email) {
+		missedEmails.put(PeopleSearchIndex.normalize(email), Boolean.TRUE);
+	}
+
+	private Counter emailLookupCounter(MeterRegistry meterRegistry, String source) {
+		return Counter.builder("people.search.email.lookups")
+				.tag("source", source)
+				.register(meterRegistry);
+	}
+
+	private Counter rebuildCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("people.search.index.refresh")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,172 @@
+package org.people.infrastructure.repository.snapshot;
+
+import org.people.application.dto.PeopleResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Columnar, primitive-keyed store of people. Ids live in a sorted int column; names and
+ * emails are packed as UTF-8 into one contiguous byte column addressed by an offsets
+ * column. A {@link PeopleResponse} is only materialized when a record is read, so a
+ * million-entry store costs a handful of buffers instead of millions of objects.
+ * <p>
+ * Columns are plain buffers, so the same store can sit on heap arrays or directly on a
+ * memory-mapped snapshot file (see {@link PeopleSnapshotFile}).
+ * Null names or emails are stored as empty strings.
+ */
+public final class CompactPeopleStore {
+
+	private final IntBuffer ids;
+	// record i: name = [offsets[2i], offsets[2i+1]), email = [offsets[2i+1], offsets[2i+2])
+	private final IntBuffer offsets;
+	private final ByteBuffer heap;
+	private final int size;
+
+	CompactPeopleStore(IntBuffer ids, IntBuffer offsets, ByteBuffer heap) {
+		this.ids = ids;
+		this.offsets = offsets;
+		this.heap = heap;
+		this.size = ids.limit();
+	}
+
+	public static CompactPeopleStore of(Collection<PeopleResponse> source) {
+		PeopleResponse[] sorted = source.stream()
+				.filter(person -> person.getId() != null)
+				.sorted(Comparator.comparingInt(PeopleResponse::getId))
+				.toArray(PeopleResponse[]::new);
+
+		int[] ids = new int[sorted.length];
+		byte[][] fields = new byte[sorted.length * 2][];
+		int size = 0;
+		long heapSize = 0;
+
+		for (PeopleResponse person : sorted) {
+			// keep the first occurrence of a duplicated id
+			if (size > 0 && ids[size - 1] == person.getId()) {
+				continue;
+			}
+			byte[] name = encode(person.getName());
+			byte[] email = encode(person.getEmail());
+			ids[size] = person.getId();
+			fields[2 * size] = name;
+			fields[2 * size + 1] = email;
+			heapSize += name.length + email.length;
+			size++;
+		}
+
+		if (heapSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("People dataset too large for a compact store: " + heapSize + " bytes");
+		}
+
+		int[] offsets = new int[2 * size + 1];
+		byte[] heap = new byte[(int) heapSize];
+		int position = 0;
+		for (int field = 0; field < 2 * size; field++) {
+			byte[] bytes = fields[field];
+			System.arraycopy(bytes, 0, heap, position, bytes.length);
+			offsets[field] = position;
+			position += bytes.length;
+		}
+		offsets[2 * size] = position;
+
+		return new CompactPeopleStore(IntBuffer.wrap(Arrays.copyOf(ids, size)), IntBuffer.wrap(offsets),
+				ByteBuffer.wrap(heap));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int indexOf(int id) {
+		int low = 0;
+		int high = size - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int midId = ids.get(mid);
+			if (midId < id) {
+				low = mid + 1;
+			} else if (midId > id) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	public int idAt(int index) {
+		return ids.get(index);
+	}
+
+	public String nameAt(int index) {
+		return decode(2 * index);
+	}
+
+	public String emailAt(int index) {
+		return decode(2 * index + 1);
+	}
+
+	public PeopleResponse get(int index) {
+		return new PeopleResponse(ids.get(index), nameAt(index), emailAt(index));
+	}
+
+	public PeopleResponse find(int id) {
+		int index = indexOf(id);
+		return index >= 0 ? get(index) : null;
+	}
+
+	/**
+	 * Read-only view that materializes each record as it is accessed.
+	 */
+	public List<PeopleResponse> asList() {
+		return new MaterializingList();
+	}
+
+	IntBuffer ids() {
+		return ids.duplicate();
+	}
+
+	IntBuffer offsets() {
+		return offsets.duplicate();
+	}
+
+	ByteBuffer heap() {
+		return heap.duplicate();
+	}
+
+	private String decode(int field) {
+		int start = offsets.get(field);
+		int length = offsets.get(field + 1) - start;
+		if (heap.hasArray()) {
+			return new String(heap.array(), heap.arrayOffset() + start, length, StandardCharsets.UTF_8);
+		}
+		byte[] bytes = new byte[length];
+		heap.get(start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static byte[] encode(String value) {
+		return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private final class MaterializingList extends AbstractList<PeopleResponse> implements RandomAccess {
+
+		@Override
+		public PeopleResponse get(int index) {
+			return CompactPeopleStore.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package org.people.infrastructure.repository.snapshot;
+
+import org.people.application.dto.PeopleResponse;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable, int-keyed view of the full people dataset, backed by a {@link CompactPeopleStore}
+ * so records are only materialized when read.
+ */
+public final class PeopleSnapshot {
+
+	private final CompactPeopleStore store;
+	private final Instant loadedAt;
+
+	private PeopleSnapshot(CompactPeopleStore store, Instant loadedAt) {
+		this.store = store;
+		this.loadedAt = loadedAt;
+	}
+
+	public static PeopleSnapshot of(Collection<PeopleResponse> source) {
+		return new PeopleSnapshot(CompactPeopleStore.of(source), Instant.now());
+	}
+
+	static PeopleSnapshot of(CompactPeopleStore store, Instant loadedAt) {
+		return new PeopleSnapshot(store, loadedAt);
+	}
+
+	public PeopleResponse find(int id) {
+		return store.find(id);
+	}
+
+	public List<PeopleResponse> all() {
+		return store.asList();
+	}
+
+	public int size() {
+		return store.size();
+	}
+
+	public CompactPeopleStore store() {
+		return store;
+	}
+
+	public Instant loadedAt() {
+		return loadedAt;
+	}
+}
@@ -0,0 +1,151 @@
+package org.people.infrastructure.repository.snapshot;
+
+import org.people.infrastructure.logging.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Versioned binary snapshot file, read back through a memory mapping so a restarted service
+ * can serve the previous dataset without copying it onto the heap.
+ * <pre>
+ * header (48 bytes, big-endian)
+ *   0  int    magic 'PPLS'
+ *   4  int    schema version
+ *   8  long   loadedAt (epoch millis)
+ *  16  int    record count
+ *  20  int    string heap length
+ *  24  long   CRC32 of the body
+ *  32  byte[16] data source name, US-ASCII, zero padded
+ * body
+ *      int[count]          ids (sorted)
+ *      int[2 * count + 1]  string offsets
+ *      byte[heap length]   UTF-8 names and emails
+ * </pre>
+ */
+public final class PeopleSnapshotFile {
+
+	private static final Logger logger = Logger.getLogger(PeopleSnapshotFile.class);
+
+	static final int MAGIC = 0x50504C53;
+	static final int SCHEMA_VERSION = 1;
+	static final int HEADER_SIZE = 48;
+	private static final int DATA_SOURCE_FIELD_SIZE = 16;
+
+	private PeopleSnapshotFile() {
+	}
+
+	public static void write(PeopleSnapshot snapshot, String dataSource, Path path) throws IOException {
+		CompactPeopleStore store = snapshot.store();
+		int count = store.size();
+		ByteBuffer heap = store.heap();
+
+		ByteBuffer index = ByteBuffer.allocate(Integer.BYTES * (3 * count + 1));
+		index.asIntBuffer().put(store.ids()).put(store.offsets());
+
+		CRC32 crc = new CRC32();
+		crc.update(index.duplicate());
+		crc.update(heap.duplicate());
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC)
+				.putInt(SCHEMA_VERSION)
+				.putLong(snapshot.loadedAt().toEpochMilli())
+				.putInt(count)
+				.putInt(heap.remaining())
+				.putLong(crc.getValue())
+				.put(Arrays.copyOf(dataSource.getBytes(StandardCharsets.US_ASCII), DATA_SOURCE_FIELD_SIZE))
+				.flip();
+
+		Path parent = path.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer[] buffers = {header, index, heap};
+			while (header.hasRemaining() || index.hasRemaining() || heap.hasRemaining()) {
+				channel.write(buffers);
+			}
+			channel.force(true);
+		}
+		// Readers holding a mapping of the previous file keep their pages; new readers see the new file
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Maps a snapshot file. Returns empty (cold start) when the file is missing, belongs to another
+	 * data source, has an unknown schema version or fails its checksum.
+	 */
+	public static Optional<PeopleSnapshot> read(Path path, String dataSource) {
+		if (!Files.isRegularFile(path)) {
+			return Optional.empty();
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long fileSize = channel.size();
+			if (fileSize < HEADER_SIZE) {
+				return rejected(path, "truncated header");
+			}
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+
+			if (mapped.getInt(0) != MAGIC) {
+				return rejected(path, "bad magic");
+			}
+			int version = mapped.getInt(4);
+			if (version != SCHEMA_VERSION) {
+				return rejected(path, "unsupported schema version " + version);
+			}
+			long loadedAt = mapped.getLong(8);
+			int count = mapped.getInt(16);
+			int heapLength = mapped.getInt(20);
+			long expectedCrc = mapped.getLong(24);
+			byte[] dataSourceField = new byte[DATA_SOURCE_FIELD_SIZE];
+			mapped.get(32, dataSourceField);
+			if (!Arrays.equals(dataSourceField,
+					Arrays.copyOf(dataSource.getBytes(StandardCharsets.US_ASCII), DATA_SOURCE_FIELD_SIZE))) {
+				return rejected(path, "written for another data source");
+			}
+
+			long indexBytes = (long) Integer.BYTES * (3L * count + 1);
+			if (count < 0 || heapLength < 0 || fileSize != HEADER_SIZE + indexBytes + heapLength) {
+				return rejected(path, "size mismatch");
+			}
+
+			ByteBuffer body = mapped.slice(HEADER_SIZE, (int) (fileSize - HEADER_SIZE));
+			CRC32 crc = new CRC32();
+			crc.update(body.duplicate());
+			if (crc.getValue() != expectedCrc) {
+				return rejected(path, "checksum mismatch");
+			}
+
+			IntBuffer ids = body.slice(0, Integer.BYTES * count).asIntBuffer();
+			IntBuffer offsets = body.slice(Integer.BYTES * count, Integer.BYTES * (2 * count + 1)).asIntBuffer();
+			ByteBuffer heap = body.slice((int) indexBytes, heapLength);
+
+			CompactPeopleStore store = new CompactPeopleStore(ids, offsets, heap);
+			return Optional.of(PeopleSnapshot.of(store, Instant.ofEpochMilli(loadedAt)));
+		} catch (IOException | RuntimeException e) {
+			logger.warn("Failed to read people snapshot file {}: {}", path, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private static Optional<PeopleSnapshot> rejected(Path path, String reason) {
+		logger.warn("Ignoring people snapshot file {} ({}), starting cold", path, reason);
+		return Optional.empty();
+	}
+}
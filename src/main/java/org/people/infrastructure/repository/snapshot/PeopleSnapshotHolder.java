@@ -0,0 +1,169 @@
+package org.people.infrastructure.repository.snapshot;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.people.domain.client.PeopleClient;
+import org.people.infrastructure.logging.Logger;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the current {@link PeopleSnapshot} and refreshes it on a schedule. Readers only do a
+ * volatile read of the reference; a refresh builds a new snapshot off to the side and swaps it
+ * in atomically. A failed refresh keeps serving the last good snapshot.
+ * <p>
+ * When a persistence path is set, every refreshed snapshot (and the one being served at
+ * shutdown) is written to a {@link PeopleSnapshotFile}; on the next boot that file is served
+ * immediately while the first refresh runs in the background.
+ */
+public class PeopleSnapshotHolder implements SmartLifecycle {
+
+	private static final Logger logger = Logger.getLogger(PeopleSnapshotHolder.class);
+
+	private final PeopleClient client;
+	private final boolean enabled;
+	private final Duration refreshInterval;
+	private final Duration initialLoadTimeout;
+	private final Path persistencePath;
+	private final String dataSource;
+	private final AtomicReference<PeopleSnapshot> current = new AtomicReference<>();
+	private final Counter refreshSuccess;
+	private final Counter refreshFailure;
+
+	private volatile Disposable refreshTask;
+
+	public PeopleSnapshotHolder(PeopleClient client,
+								boolean enabled,
+								Duration refreshInterval,
+								Duration initialLoadTimeout,
+								Path persistencePath,
+								MeterRegistry meterRegistry,
+								String dataSource) {
+		this.client = client;
+		this.enabled = enabled;
+		this.refreshInterval = refreshInterval;
+		this.initialLoadTimeout = initialLoadTimeout;
+		this.persistencePath = persistencePath;
+		this.dataSource = dataSource;
+
+		this.refreshSuccess = Counter.builder("people.snapshot.refresh")
+				.tag("datasource", dataSource)
+				.tag("result", "success")
+				.register(meterRegistry);
+		this.refreshFailure = Counter.builder("people.snapshot.refresh")
+				.tag("datasource", dataSource)
+				.tag("result", "failure")
+				.register(meterRegistry);
+		Gauge.builder("people.snapshot.age", this, PeopleSnapshotHolder::ageSeconds)
+				.description("Seconds since the snapshot being served was loaded")
+				.baseUnit("seconds")
+				.tag("datasource", dataSource)
+				.register(meterRegistry);
+		Gauge.builder("people.snapshot.size", this, holder -> {
+					PeopleSnapshot snapshot = holder.current();
+					return snapshot != null ? snapshot.size() : 0;
+				})
+				.tag("datasource", dataSource)
+				.register(meterRegistry);
+	}
+
+	public PeopleSnapshot current() {
+		return current.get();
+	}
+
+	public Mono<PeopleSnapshot> refresh() {
+		return client.listAll()
+				.collectList()
+				.map(PeopleSnapshot::of)
+				.doOnNext(snapshot -> {
+					current.set(snapshot);
+					refreshSuccess.increment();
+					logger.info("People snapshot refreshed - size: {}", snapshot.size());
+				})
+				.flatMap(snapshot -> Mono.fromRunnable(() -> persist(snapshot))
+						.subscribeOn(Schedulers.boundedElastic())
+						.thenReturn(snapshot))
+				.doOnError(error -> {
+					refreshFailure.increment();
+					logger.warn("People snapshot refresh failed, keeping previous snapshot - age: {}s, error: {}",
+							ageSeconds(), error.getMessage());
+				});
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+
+		PeopleSnapshot persisted = persistencePath != null
+				? PeopleSnapshotFile.read(persistencePath, dataSource).orElse(null)
+				: null;
+
+		if (persisted != null) {
+			current.set(persisted);
+			logger.info("Serving people snapshot from {} - size: {}, loadedAt: {}",
+					persistencePath, persisted.size(), persisted.loadedAt());
+			refresh().subscribe(snapshot -> {}, error -> {});
+		} else {
+			try {
+				refresh().block(initialLoadTimeout);
+			} catch (RuntimeException e) {
+				logger.warn("Initial people snapshot load failed, serving from upstream until a refresh succeeds", e);
+			}
+		}
+
+		refreshTask = Flux.interval(refreshInterval, refreshInterval)
+				.onBackpressureDrop()
+				.concatMap(tick -> refresh().onErrorResume(error -> Mono.empty()))
+				.subscribe();
+	}
+
+	@Override
+	public void stop() {
+		Disposable task = refreshTask;
+		if (task != null) {
+			task.dispose();
+			refreshTask = null;
+		}
+
+		PeopleSnapshot snapshot = current.get();
+		if (snapshot != null) {
+			persist(snapshot);
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return refreshTask != null;
+	}
+
+	private void persist(PeopleSnapshot snapshot) {
+		if (persistencePath == null) {
+			return;
+		}
+		try {
+			PeopleSnapshotFile.write(snapshot, dataSource, persistencePath);
+		} catch (IOException e) {
+			logger.warn("Failed to persist people snapshot to {}: {}", persistencePath, e.getMessage());
+		}
+	}
+
+	private double ageSeconds() {
+		PeopleSnapshot snapshot = current.get();
+		if (snapshot == null) {
+			return Double.NaN;
+		}
+		return Duration.between(snapshot.loadedAt(), Instant.now()).toMillis() / 1000.0;
+	}
+}
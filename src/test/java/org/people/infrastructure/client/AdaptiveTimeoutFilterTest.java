@@ -0,0 +1,53 @@
+package org.people.infrastructure.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.people.infrastructure.exception.ExternalServiceException;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveTimeoutFilterTest {
+
+	private static final Duration MEMOIZED = Duration.ofSeconds(1);
+	private static final Duration SLOW = Duration.ofMillis(60);
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final AdaptiveTimeoutFilter filter = new AdaptiveTimeoutFilter("TYPICODE", "TypiCode API", true,
+			Duration.ofMillis(100), 0.99, 2.0, Duration.ofMillis(20), Duration.ofSeconds(2), meterRegistry);
+	private final ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://typicode.test/users/1")).build();
+
+	@Test
+	void timeoutRecoversAfterSustainedSlowdown() throws InterruptedException {
+		for (int i = 0; i < 500; i++) {
+			filter.filter(request, any -> Mono.just(ClientResponse.create(HttpStatus.OK).build())).block();
+		}
+		// percentiles are memoized for one second; wait for one computed from the fast calls only
+		Thread.sleep(MEMOIZED.toMillis());
+		assertTrue(filter.currentTimeout().compareTo(SLOW) < 0, "timeout not adapted: " + filter.currentTimeout());
+
+		// the upstream is now permanently slower than the adapted timeout
+		long end = System.nanoTime() + MEMOIZED.multipliedBy(5).dividedBy(2).toNanos();
+		int answered = 0;
+		while (System.nanoTime() < end) {
+			try {
+				filter.filter(request, any -> Mono.delay(SLOW).thenReturn(ClientResponse.create(HttpStatus.OK).build())).block();
+				answered++;
+			} catch (ExternalServiceException timedOut) {
+				answered = 0;
+			}
+		}
+
+		assertTrue(answered >= 10, "upstream still cut off, last answered streak: " + answered);
+		assertTrue(filter.currentTimeout().compareTo(SLOW) > 0, "timeout below the new latency: " + filter.currentTimeout());
+		assertTrue(meterRegistry.get("people.client.timeout.expired").counter().count() > 0);
+	}
+}
@@ -0,0 +1,74 @@
+package org.people.infrastructure.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.people.application.dto.PeopleResponse;
+import org.people.domain.client.PeopleClient;
+import org.people.infrastructure.exception.ExternalServiceException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HedgingPeopleClientTest {
+
+	private static final Duration HEDGE_DELAY = Duration.ofMillis(50);
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final PeopleResponse hedged = new PeopleResponse(1, "Leanne Graham", "Sincere@april.biz");
+	private final ExternalServiceException primaryError = new ExternalServiceException("primary failed", "TypiCode API");
+	private final AtomicInteger secondaryCalls = new AtomicInteger();
+
+	@Test
+	void hedgeAnswersWhenPrimaryFailsAfterItWasSent() {
+		HedgingPeopleClient client = client(Mono.delay(HEDGE_DELAY.multipliedBy(2)).then(Mono.error(primaryError)),
+				Mono.delay(HEDGE_DELAY.multipliedBy(3)).thenReturn(hedged));
+
+		assertSame(hedged, client.findById(1).block());
+		assertEquals(1, secondaryCalls.get());
+		assertEquals(1, meterRegistry.get("people.client.hedges.won").counter().count());
+	}
+
+	@Test
+	void primaryErrorBeforeHedgeDelayIsReturnedWithoutHedging() throws InterruptedException {
+		HedgingPeopleClient client = client(Mono.error(primaryError), Mono.just(hedged));
+
+		Throwable error = assertThrows(ExternalServiceException.class, () -> client.findById(1).block(HEDGE_DELAY));
+		Thread.sleep(HEDGE_DELAY.multipliedBy(2).toMillis());
+
+		assertSame(primaryError, error);
+		assertEquals(0, secondaryCalls.get());
+		assertEquals(0, meterRegistry.get("people.client.hedges.fired").counter().count());
+	}
+
+	private HedgingPeopleClient client(Mono<PeopleResponse> primaryAnswer, Mono<PeopleResponse> secondaryAnswer) {
+		return new HedgingPeopleClient(new StubClient(primaryAnswer), new StubClient(secondaryAnswer.doOnSubscribe(
+				subscription -> secondaryCalls.incrementAndGet())), HEDGE_DELAY, false, 100.0, meterRegistry,
+				"TYPICODE", "DUMMY");
+	}
+
+	private record StubClient(Mono<PeopleResponse> answer) implements PeopleClient {
+
+		@Override
+		public Mono<PeopleResponse> findById(Integer id) {
+			return answer;
+		}
+
+		@Override
+		public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+			return answer.flux();
+		}
+
+		@Override
+		public Flux<PeopleResponse> listAll() {
+			return answer.flux();
+		}
+	}
+}
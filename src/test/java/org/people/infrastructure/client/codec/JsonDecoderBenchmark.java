@@ -0,0 +1,117 @@
+package org.people.infrastructure.client.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.people.infrastructure.client.typicode.TypiCodeResponse;
+import org.people.infrastructure.client.typicode.TypiCodeResponseSchema;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a JSONPlaceholder-shaped {@code /users} array, split into 8 KB buffers as it would
+ * arrive from the network, through the default Jackson codec and through
+ * {@link StreamingJsonDecoder}. Run with the GC profiler to compare allocation per operation:
+ * <pre>
+ * ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.people.infrastructure.client.codec.JsonDecoderBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonDecoderBenchmark {
+
+	private static final ResolvableType TYPE = ResolvableType.forClass(TypiCodeResponse.class);
+	private static final int CHUNK_SIZE = 8192;
+
+	@Param({"100", "10000"})
+	int people;
+
+	private List<byte[]> chunks;
+	private Jackson2JsonDecoder jacksonDecoder;
+	private StreamingJsonDecoder<TypiCodeResponse> streamingDecoder;
+
+	@Setup
+	public void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		jacksonDecoder = new Jackson2JsonDecoder(objectMapper);
+		streamingDecoder = new StreamingJsonDecoder<>(TypiCodeResponse.class, new TypiCodeResponseSchema(),
+				objectMapper.getFactory());
+
+		StringBuilder json = new StringBuilder("[");
+		for (int id = 1; id <= people; id++) {
+			if (id > 1) {
+				json.append(',');
+			}
+			json.append("{\"id\":").append(id)
+					.append(",\"name\":\"Leanne Graham ").append(id)
+					.append("\",\"username\":\"Bret\",\"email\":\"user").append(id).append("@april.biz\"")
+					.append(",\"address\":{\"street\":\"Kulas Light\",\"suite\":\"Apt. 556\",\"city\":\"Gwenborough\",")
+					.append("\"zipcode\":\"92998-3874\",\"geo\":{\"lat\":\"-37.3159\",\"lng\":\"81.1496\"}},")
+					.append("\"phone\":\"1-770-736-8031 x56442\",\"website\":\"hildegard.org\",")
+					.append("\"company\":{\"name\":\"Romaguera-Crona\",\"catchPhrase\":\"Multi-layered client-server neural-net\",")
+					.append("\"bs\":\"harness real-time e-markets\"}}");
+		}
+		byte[] bytes = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+		chunks = new ArrayList<>();
+		for (int from = 0; from < bytes.length; from += CHUNK_SIZE) {
+			chunks.add(Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + CHUNK_SIZE)));
+		}
+	}
+
+	@Benchmark
+	public void jacksonCodec(Blackhole blackhole) {
+		jacksonDecoder.decode(body(), TYPE, MediaType.APPLICATION_JSON, Map.of())
+				.doOnNext(blackhole::consume)
+				.blockLast();
+	}
+
+	@Benchmark
+	public void streamingDecoder(Blackhole blackhole) {
+		streamingDecoder.decode(body(), TYPE, MediaType.APPLICATION_JSON, Map.of())
+				.doOnNext(blackhole::consume)
+				.blockLast();
+	}
+
+	private Flux<DataBuffer> body() {
+		return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JsonDecoderBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
@@ -0,0 +1,158 @@
+package org.people.infrastructure.client.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.people.grpc.ServiceProto.PeopleResponseGrpc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.people.application.dto.PeopleResponse;
+import org.people.infrastructure.client.dummy.DummyMapperImpl;
+import org.people.infrastructure.client.dummy.DummyPeopleSchema;
+import org.people.infrastructure.client.dummy.DummyResponseSchema;
+import org.people.infrastructure.client.typicode.TypiCodeMapperImpl;
+import org.people.infrastructure.client.typicode.TypiCodePeopleSchema;
+import org.people.infrastructure.client.typicode.TypiCodeResponseSchema;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes {@value #RECORDS} upstream users from JSON to {@code PeopleResponseGrpc} through three
+ * paths: the upstream record plus MapStruct, the direct {@code PeopleResponse} schema, and a
+ * schema that fills the protobuf builder itself. Scores and {@code gc.alloc.rate.norm} are per
+ * record:
+ * <pre>
+ * ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.people.infrastructure.client.codec.PeopleMappingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PeopleMappingBenchmark {
+
+	private static final int RECORDS = 1000;
+	private static final int CHUNK_SIZE = 8192;
+
+	@Param({"TYPICODE", "DUMMY"})
+	String source;
+
+	private List<byte[]> chunks;
+	private StreamingJsonDecoder<PeopleResponse> mappedDecoder;
+	private StreamingJsonDecoder<PeopleResponse> directDecoder;
+	private StreamingJsonDecoder<PeopleResponseGrpc> grpcDecoder;
+
+	@Setup
+	public void setUp() {
+		JsonFactory factory = new JsonFactory();
+		PeopleRecordFactory<PeopleResponseGrpc> grpc = (id, name, email) -> PeopleResponseGrpc.newBuilder()
+				.setId(id)
+				.setName(name)
+				.setEmail(email)
+				.build();
+
+		StringBuilder json = new StringBuilder("[");
+		for (int id = 1; id <= RECORDS; id++) {
+			if (id > 1) {
+				json.append(',');
+			}
+			json.append("{\"id\":").append(id);
+			if ("DUMMY".equals(source)) {
+				json.append(",\"firstName\":\"Emily\",\"lastName\":\"Johnson ").append(id).append('"')
+						.append(",\"maidenName\":\"Smith\",\"age\":28,\"gender\":\"female\"")
+						.append(",\"email\":\"emily.johnson").append(id).append("@x.dummyjson.com\"")
+						.append(",\"address\":{\"address\":\"626 Main Street\",\"city\":\"Phoenix\",\"state\":\"Mississippi\"}}");
+			} else {
+				json.append(",\"name\":\"Leanne Graham ").append(id)
+						.append("\",\"username\":\"Bret\",\"email\":\"user").append(id).append("@april.biz\"")
+						.append(",\"address\":{\"street\":\"Kulas Light\",\"suite\":\"Apt. 556\",\"city\":\"Gwenborough\"}}");
+			}
+		}
+		byte[] bytes = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+		chunks = new ArrayList<>();
+		for (int from = 0; from < bytes.length; from += CHUNK_SIZE) {
+			chunks.add(Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + CHUNK_SIZE)));
+		}
+
+		if ("DUMMY".equals(source)) {
+			mappedDecoder = new StreamingJsonDecoder<>(PeopleResponse.class,
+					new DummyResponseSchema().andThen(new DummyMapperImpl()::toPeopleResponse), factory);
+			directDecoder = new StreamingJsonDecoder<>(PeopleResponse.class, new DummyPeopleSchema<>(PeopleResponse::new), factory);
+			grpcDecoder = new StreamingJsonDecoder<>(PeopleResponseGrpc.class, new DummyPeopleSchema<>(grpc), factory);
+		} else {
+			mappedDecoder = new StreamingJsonDecoder<>(PeopleResponse.class,
+					new TypiCodeResponseSchema().andThen(new TypiCodeMapperImpl()::toPeopleResponse), factory);
+			directDecoder = new StreamingJsonDecoder<>(PeopleResponse.class, new TypiCodePeopleSchema<>(PeopleResponse::new), factory);
+			grpcDecoder = new StreamingJsonDecoder<>(PeopleResponseGrpc.class, new TypiCodePeopleSchema<>(grpc), factory);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public void upstreamRecordAndMapper(Blackhole blackhole) {
+		mappedDecoder.decode(body())
+				.map(PeopleMappingBenchmark::toGrpc)
+				.doOnNext(blackhole::consume)
+				.blockLast();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public void directPeopleResponse(Blackhole blackhole) {
+		directDecoder.decode(body())
+				.map(PeopleMappingBenchmark::toGrpc)
+				.doOnNext(blackhole::consume)
+				.blockLast();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(RECORDS)
+	public void directProtobuf(Blackhole blackhole) {
+		grpcDecoder.decode(body())
+				.doOnNext(blackhole::consume)
+				.blockLast();
+	}
+
+	private Flux<DataBuffer> body() {
+		return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+	}
+
+	private static PeopleResponseGrpc toGrpc(PeopleResponse people) {
+		return PeopleResponseGrpc.newBuilder()
+				.setId(people.getId())
+				.setName(people.getName())
+				.setEmail(people.getEmail())
+				.build();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(PeopleMappingBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
@@ -0,0 +1,64 @@
+package org.people.infrastructure.client.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+import org.people.infrastructure.client.typicode.TypiCodeResponse;
+import org.people.infrastructure.client.typicode.TypiCodeResponseSchema;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingJsonDecoderTest {
+
+	private static final ResolvableType TYPE = ResolvableType.forClass(TypiCodeResponse.class);
+
+	private final StreamingJsonDecoder<TypiCodeResponse> decoder =
+			new StreamingJsonDecoder<>(TypiCodeResponse.class, new TypiCodeResponseSchema(), new JsonFactory());
+
+	@Test
+	void decodesArrayAcrossArbitraryBufferBoundaries() {
+		String json = """
+				[{"id":1,"name":"Leanne Graham","username":"Bret","email":"Sincere@april.biz",
+				  "address":{"street":"Kulas Light","geo":{"lat":"-37.3159","lng":"81.1496"}},"tags":[1,[2],{"x":3}]},
+				 {"company":{"name":"Deckow-Crist"},"email":"Shanna@melissa.tv","id":2,"name":"Ervin Howell"}]""";
+
+		List<TypiCodeResponse> people = decoder.decode(chunked(json, 3), TYPE, MediaType.APPLICATION_JSON, Map.of())
+				.collectList()
+				.block();
+
+		assertEquals(List.of(
+				new TypiCodeResponse(1, "Leanne Graham", "Sincere@april.biz"),
+				new TypiCodeResponse(2, "Ervin Howell", "Shanna@melissa.tv")), people);
+	}
+
+	@Test
+	void decodesSingleObjectToMono() {
+		String json = "{\"id\":7,\"name\":\"Kurtis Weissnat\",\"email\":null,\"website\":\"elvis.io\"}";
+
+		TypiCodeResponse people = decoder.decodeToMono(chunked(json, 5), TYPE, MediaType.APPLICATION_JSON, Map.of())
+				.block();
+
+		assertEquals(new TypiCodeResponse(7, "Kurtis Weissnat", null), people);
+		assertTrue(decoder.canDecode(TYPE, MediaType.APPLICATION_JSON));
+	}
+
+	static Flux<DataBuffer> chunked(String json, int chunkSize) {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		return Flux.range(0, (bytes.length + chunkSize - 1) / chunkSize)
+				.map(chunk -> {
+					int from = chunk * chunkSize;
+					byte[] slice = Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + chunkSize));
+					return DefaultDataBufferFactory.sharedInstance.wrap(slice);
+				});
+	}
+}
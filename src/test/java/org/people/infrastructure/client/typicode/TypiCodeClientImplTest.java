@@ -0,0 +1,71 @@
+package org.people.infrastructure.client.typicode;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.people.application.dto.PeopleResponse;
+import org.people.infrastructure.client.ConditionalCache;
+import org.people.infrastructure.client.RetryPolicy;
+import org.people.infrastructure.client.codec.StreamingJsonDecoder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TypiCodeClientImplTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+
+	@Test
+	void findByIdRevalidatesWithStoredETag() {
+		TypiCodeClientImpl client = client(
+				ClientResponse.create(HttpStatus.OK)
+						.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+						.header(HttpHeaders.ETAG, "\"v1\"")
+						.body("{\"id\":1,\"name\":\"Leanne Graham\",\"email\":\"Sincere@april.biz\"}")
+						.build(),
+				ClientResponse.create(HttpStatus.NOT_MODIFIED)
+						.header(HttpHeaders.ETAG, "\"v1\"")
+						.build());
+
+		PeopleResponse first = client.findById(1).block();
+		PeopleResponse second = client.findById(1).block();
+
+		assertEquals("Leanne Graham", first.getName());
+		assertNull(requests.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+		assertEquals("\"v1\"", requests.get(1).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+		// the 304 replays the stored value instead of decoding a new one
+		assertSame(first, second);
+		assertEquals(1, meterRegistry.get("people.client.conditional.requests").tag("result", "not_modified").counter().count());
+	}
+
+	private TypiCodeClientImpl client(ClientResponse... responses) {
+		WebClient webClient = WebClient.builder()
+				.baseUrl("http://typicode.test")
+				.exchangeFunction(request -> {
+					requests.add(request);
+					return Mono.just(responses[requests.size() - 1]);
+				})
+				.build();
+		RetryPolicy retryPolicy = new RetryPolicy("TYPICODE", 0, Duration.ofMillis(10), Duration.ofMillis(10),
+				Duration.ZERO, 10.0, 10, meterRegistry);
+		ConditionalCache conditionalCache = new ConditionalCache("TYPICODE", true, 100, meterRegistry);
+		StreamingJsonDecoder<PeopleResponse> decoder = new StreamingJsonDecoder<>(PeopleResponse.class,
+				new TypiCodePeopleSchema<>(PeopleResponse::new), new JsonFactory());
+
+		return new TypiCodeClientImpl(webClient, retryPolicy, conditionalCache, decoder);
+	}
+}
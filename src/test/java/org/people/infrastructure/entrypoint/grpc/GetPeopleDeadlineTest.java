@@ -0,0 +1,123 @@
+package org.people.infrastructure.entrypoint.grpc;
+
+import com.people.grpc.PeopleServiceGrpc;
+import com.people.grpc.ServiceProto.PeopleRequestGrpc;
+import io.grpc.Deadline;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.people.application.dto.PeopleResponse;
+import org.people.application.service.PeopleServiceImpl;
+import org.people.domain.client.PeopleClient;
+import org.people.domain.enums.DataSource;
+import org.people.domain.enums.ServingMode;
+import org.people.infrastructure.client.BatchingPeopleClient;
+import org.people.infrastructure.context.GrpcDeadlineContext;
+import org.people.infrastructure.repository.CachingPeopleRepository;
+import org.people.infrastructure.repository.PeopleRepositoryImpl;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * GetPeople through the default read path (per-id cache over TypiCode micro-batching) against an
+ * upstream that never answers.
+ */
+class GetPeopleDeadlineTest {
+
+	private final Map<Integer, Deadline> upstreamDeadlines = new ConcurrentHashMap<>();
+	private final BlockingQueue<Integer> upstreamCancelled = new LinkedBlockingQueue<>();
+
+	private Server server;
+	private ManagedChannel channel;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		PeopleClient batching = new BatchingPeopleClient(new StalledClient(), Duration.ofMillis(2), 64,
+				meterRegistry, DataSource.TYPICODE.name());
+		PeopleRepositoryImpl repository = new PeopleRepositoryImpl(Map.of(DataSource.TYPICODE, batching),
+				DataSource.TYPICODE, ServingMode.REMOTE, null, null);
+		CachingPeopleRepository cached = new CachingPeopleRepository(repository, 100, Duration.ofMinutes(5),
+				Duration.ofMinutes(1), meterRegistry, DataSource.TYPICODE.name());
+		PeopleServiceGrpcImpl service = new PeopleServiceGrpcImpl(new PeopleServiceImpl(cached),
+				new SerializedResponseCache(new MockEnvironment(), meterRegistry));
+
+		String name = InProcessServerBuilder.generateName();
+		server = InProcessServerBuilder.forName(name).addService(service).build().start();
+		channel = InProcessChannelBuilder.forName(name).build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		channel.shutdownNow();
+		server.shutdownNow();
+	}
+
+	@Test
+	void stalledUpstreamEndsWithDeadlineExceededAndIsCancelled() throws InterruptedException {
+		// the first call pays for class loading, which alone can take longer than 50 ms
+		getPeople(2, 1000);
+
+		StatusRuntimeException error = getPeople(1, 50);
+
+		assertEquals(Status.Code.DEADLINE_EXCEEDED, error.getStatus().getCode());
+		assertNotNull(upstreamDeadlines.get(1), "upstream call did not see the gRPC deadline");
+		Integer cancelled;
+		do {
+			cancelled = upstreamCancelled.poll(1, TimeUnit.SECONDS);
+		} while (cancelled != null && cancelled != 1);
+		assertEquals(1, cancelled, "upstream call still running after the deadline");
+	}
+
+	private StatusRuntimeException getPeople(int id, long deadlineMillis) {
+		return assertThrows(StatusRuntimeException.class, () -> PeopleServiceGrpc.newBlockingStub(channel)
+				.withDeadlineAfter(deadlineMillis, TimeUnit.MILLISECONDS)
+				.getPeople(PeopleRequestGrpc.newBuilder().setId(id).build()));
+	}
+
+	private class StalledClient implements PeopleClient {
+
+		@Override
+		public Mono<PeopleResponse> findById(Integer id) {
+			return findByIds(List.of(id)).next();
+		}
+
+		@Override
+		public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+			return Flux.<PeopleResponse>never()
+					.contextWrite(context -> {
+						context.<Deadline>getOrEmpty(GrpcDeadlineContext.DEADLINE_KEY)
+								.ifPresent(deadline -> ids.forEach(id -> upstreamDeadlines.put(id, deadline)));
+						return context;
+					})
+					.doOnCancel(() -> upstreamCancelled.addAll(ids));
+		}
+
+		@Override
+		public Flux<PeopleResponse> listAll() {
+			return Flux.never();
+		}
+	}
+}
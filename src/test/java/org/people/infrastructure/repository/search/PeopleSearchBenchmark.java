@@ -0,0 +1,76 @@
+package org.people.infrastructure.repository.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.people.application.dto.PeopleResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PeopleSearchIndex#search} over {@value #PEOPLE} generated people, limit 10, with the
+ * default {@code max-candidates} of 1000. Queries cover a one-letter prefix, a common name
+ * prefix, a rare surname substring, an email fragment and a miss:
+ * <pre>
+ * ./mvnw test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) org.people.infrastructure.repository.search.PeopleSearchBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PeopleSearchBenchmark {
+
+	private static final int PEOPLE = 100_000;
+	private static final String[] FIRST_NAMES = {"Leanne", "Ervin", "Clementine", "Patricia", "Chelsey",
+			"Dennis", "Kurtis", "Nicholas", "Glenna", "Clementina", "Emily", "Michael", "Sophia", "James"};
+	private static final String[] LAST_NAMES = {"Graham", "Howell", "Bauch", "Lebsack", "Dietrich",
+			"Schulist", "Weissnat", "Runolfsdottir", "Reichert", "DuBuque", "Johnson", "Williams", "Brown"};
+
+	@Param({"l", "lea", "dottir", "april.biz", "zzz"})
+	String query;
+
+	private PeopleSearchIndex index;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		List<PeopleResponse> people = new ArrayList<>(PEOPLE);
+		for (int id = 1; id <= PEOPLE; id++) {
+			String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+			String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+			String domain = random.nextInt(10) == 0 ? "april.biz" : "example.com";
+			people.add(new PeopleResponse(id, first + " " + last + " " + id,
+					first.toLowerCase() + "." + last.toLowerCase() + id + "@" + domain));
+		}
+		index = PeopleSearchIndex.of(people, 1000);
+	}
+
+	@Benchmark
+	public List<PeopleResponse> search() {
+		return index.search(query, 10);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(PeopleSearchBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
@@ -0,0 +1,88 @@
+package org.people.infrastructure.repository.search;
+
+import org.junit.jupiter.api.Test;
+import org.people.application.dto.PeopleResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PeopleSearchIndexTest {
+
+	private static final List<PeopleResponse> PEOPLE = List.of(
+			new PeopleResponse(1, "Kleanthis Dimas", "kd@site.com"),
+			new PeopleResponse(2, "Ana Lea", "ana@site.com"),
+			new PeopleResponse(3, "Dan Brown", "dlea@site.com"),
+			new PeopleResponse(4, "Leanne Graham", "sincere@april.biz"),
+			new PeopleResponse(5, "Carl Moss", "c.lea@site.com"),
+			new PeopleResponse(6, "Bob Stone", "lea@site.com"));
+
+	@Test
+	void ranksNamePrefixThenWordPrefixThenEmailPrefixThenSubstring() {
+		PeopleSearchIndex index = PeopleSearchIndex.of(PEOPLE, 1000);
+
+		// name prefix, name word prefix, email prefix, email word prefix, name substring, email substring
+		assertEquals(List.of(4, 2, 6, 5, 1, 3), ids(index.search("LEA", 10)));
+		assertEquals(List.of(4, 2), ids(index.search("lea", 2)));
+	}
+
+	@Test
+	void shortQueriesMatchWordPrefixesOnly() {
+		PeopleSearchIndex index = PeopleSearchIndex.of(PEOPLE, 1000);
+
+		assertEquals(List.of(4, 2, 6, 5), ids(index.search("le", 10)));
+		assertEquals(List.of(4), ids(index.search("g", 10)));
+		assertEquals(List.of(), ids(index.search("ea", 10)));
+	}
+
+	@Test
+	void rebuildReturnsPreviousIndexWhenNothingChanged() {
+		PeopleSearchIndex index = PeopleSearchIndex.of(PEOPLE, 1000);
+		List<PeopleResponse> copies = PEOPLE.stream()
+				.map(people -> new PeopleResponse(people.getId(), people.getName(), people.getEmail()))
+				.toList();
+
+		assertSame(index, PeopleSearchIndex.rebuild(index, copies, 1000));
+
+		List<PeopleResponse> renamed = List.of(new PeopleResponse(4, "Leanne Howell", "sincere@april.biz"));
+		PeopleSearchIndex rebuilt = PeopleSearchIndex.rebuild(index, renamed, 1000);
+		assertNotSame(index, rebuilt);
+		assertEquals(1, rebuilt.size());
+		assertEquals(List.of(4), ids(rebuilt.search("howell", 10)));
+		assertEquals(List.of(), ids(rebuilt.search("graham", 10)));
+	}
+
+	@Test
+	void verifiesAtMostMaxCandidatesInNameOrder() {
+		List<PeopleResponse> people = List.of(
+				new PeopleResponse(1, "Lea E", "e@site.com"),
+				new PeopleResponse(2, "Lea D", "d@site.com"),
+				new PeopleResponse(3, "Lea C", "c@site.com"),
+				new PeopleResponse(4, "Lea B", "b@site.com"),
+				new PeopleResponse(5, "Lea A", "a@site.com"));
+
+		assertEquals(List.of(5, 4), ids(PeopleSearchIndex.of(people, 2).search("lea", 10)));
+		assertEquals(List.of(5, 4, 3, 2, 1), ids(PeopleSearchIndex.of(people, 10).search("lea", 10)));
+	}
+
+	@Test
+	void emailIndexNormalizesCaseAndSpacesAndKeepsFirstInNameOrder() {
+		List<PeopleResponse> people = List.of(
+				new PeopleResponse(1, "Zed Shared", "Shared@Site.com"),
+				new PeopleResponse(2, "Amy Shared", "shared@site.com "),
+				new PeopleResponse(3, "Leanne Graham", "Sincere@april.biz"));
+		PeopleSearchIndex index = PeopleSearchIndex.of(people, 1000);
+
+		assertEquals(3, index.findByEmail("  SINCERE@APRIL.BIZ ").getId());
+		assertEquals(2, index.findByEmail("shared@site.com").getId());
+		assertNull(index.findByEmail("nobody@site.com"));
+		assertNull(index.findByEmail(null));
+	}
+
+	private static List<Integer> ids(List<PeopleResponse> people) {
+		return people.stream().map(PeopleResponse::getId).toList();
+	}
+}
@@ -0,0 +1,96 @@
+package org.people.infrastructure.repository.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.people.application.dto.PeopleResponse;
+import org.people.domain.exception.PeopleNotFoundException;
+import org.people.domain.repository.PeopleRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SearchIndexingPeopleRepositoryTest {
+
+	private static final List<PeopleResponse> PEOPLE = List.of(
+			new PeopleResponse(1, "Leanne Graham", "Sincere@april.biz"),
+			new PeopleResponse(2, "Ervin Howell", "Shanna@melissa.tv"));
+
+	private final ListingRepository delegate = new ListingRepository();
+	private final SearchIndexingPeopleRepository repository = new SearchIndexingPeopleRepository(
+			delegate, Duration.ofHours(1), 1000, Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+
+	@Test
+	void findsEmailFromIndexIgnoringCaseAndSurroundingSpaces() {
+		assertEquals(1, repository.findByEmail("  SINCERE@April.biz ").block().getId());
+		assertEquals(2, repository.findByEmail("shanna@melissa.tv").block().getId());
+
+		// the first lookup built the index; the second was answered by it
+		assertEquals(1, delegate.listings.get());
+		assertEquals(0, delegate.scans.get());
+	}
+
+	@Test
+	void coldIndexMissIsNotFoundWithoutSecondScan() {
+		assertThrows(PeopleNotFoundException.class, () -> repository.findByEmail("nobody@site.com").block());
+
+		assertEquals(1, delegate.listings.get());
+		assertEquals(0, delegate.scans.get());
+	}
+
+	@Test
+	void warmIndexMissScansOnceThenAnswersFromNegativeCache() {
+		repository.search("lea", 10).collectList().block();
+
+		assertThrows(PeopleNotFoundException.class, () -> repository.findByEmail("nobody@site.com").block());
+		assertThrows(PeopleNotFoundException.class, () -> repository.findByEmail(" NOBODY@site.com").block());
+
+		assertEquals(1, delegate.listings.get());
+		assertEquals(1, delegate.scans.get());
+	}
+
+	private static final class ListingRepository implements PeopleRepository {
+
+		private final AtomicInteger listings = new AtomicInteger();
+		private final AtomicInteger scans = new AtomicInteger();
+
+		@Override
+		public Mono<PeopleResponse> findById(Integer id) {
+			return Mono.error(new UnsupportedOperationException());
+		}
+
+		@Override
+		public Mono<PeopleResponse> findByEmail(String email) {
+			scans.incrementAndGet();
+			String normalized = PeopleSearchIndex.normalize(email);
+			return Flux.fromIterable(PEOPLE)
+					.filter(people -> normalized.equals(PeopleSearchIndex.normalize(people.getEmail())))
+					.next()
+					.switchIfEmpty(Mono.error(PeopleNotFoundException::forEmail));
+		}
+
+		@Override
+		public Flux<PeopleResponse> findByIds(Collection<Integer> ids) {
+			return Flux.error(new UnsupportedOperationException());
+		}
+
+		@Override
+		public Flux<PeopleResponse> findAll() {
+			return Flux.defer(() -> {
+				listings.incrementAndGet();
+				return Flux.fromIterable(PEOPLE);
+			});
+		}
+
+		@Override
+		public Flux<PeopleResponse> search(String query, int limit) {
+			return Flux.error(new UnsupportedOperationException());
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package org.people.infrastructure.repository.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openjdk.jol.info.GraphLayout;
+import org.people.application.dto.PeopleResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactPeopleStoreFootprintTest {
+
+	@Test
+	void compactStoreIsSmallerThanObjectGraph() {
+		assertCompactStoreIsSmaller(100_000);
+	}
+
+	// walking a million-record graph with JOL takes close to a minute: -Dfootprint.large=true
+	@Test
+	@EnabledIfSystemProperty(named = "footprint.large", matches = "true")
+	void compactStoreIsSmallerThanObjectGraphAtOneMillion() {
+		assertCompactStoreIsSmaller(1_000_000);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {100_000})
+	void materializesSameRecords(int records) {
+		List<PeopleResponse> people = new ArrayList<>(records);
+		for (int i = records - 1; i >= 0; i--) {
+			people.add(new PeopleResponse(i, "Pessoa " + i + " São João", "p" + i + "@example.com"));
+		}
+
+		CompactPeopleStore store = CompactPeopleStore.of(people);
+
+		for (PeopleResponse expected : people) {
+			PeopleResponse actual = store.find(expected.getId());
+			assertEquals(expected.getId(), actual.getId());
+			assertEquals(expected.getName(), actual.getName());
+			assertEquals(expected.getEmail(), actual.getEmail());
+		}
+		assertNull(store.find(records));
+	}
+
+	private static void assertCompactStoreIsSmaller(int records) {
+		List<PeopleResponse> people = new ArrayList<>(records);
+		for (int i = 0; i < records; i++) {
+			people.add(new PeopleResponse(i, "Person Number " + i, "person." + i + "@example.com"));
+		}
+
+		long objectGraphBytes = GraphLayout.parseInstance(people).totalSize();
+		CompactPeopleStore store = CompactPeopleStore.of(people);
+		long compactBytes = GraphLayout.parseInstance(store).totalSize();
+
+		assertEquals(records, store.size());
+		assertTrue(compactBytes * 2 < objectGraphBytes,
+				() -> String.format("compact store should use less than half of the object graph: "
+						+ "records=%d compact=%d bytes objectGraph=%d bytes ratio=%.2f",
+						records, compactBytes, objectGraphBytes, (double) compactBytes / objectGraphBytes));
+	}
+}
@@ -0,0 +1,55 @@
+package org.people.infrastructure.repository.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.people.application.dto.PeopleResponse;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PeopleSnapshotFileTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void roundTripsThroughMappedFile() throws Exception {
+		Path path = tempDir.resolve("people.bin");
+		PeopleSnapshot snapshot = PeopleSnapshot.of(List.of(
+				new PeopleResponse(2, "Ervin Howell", "Shanna@melissa.tv"),
+				new PeopleResponse(1, "Leanne Graham", "Sincere@april.biz"),
+				new PeopleResponse(3, "José Ñandú", "jose@example.com")));
+
+		PeopleSnapshotFile.write(snapshot, "TYPICODE", path);
+		Optional<PeopleSnapshot> read = PeopleSnapshotFile.read(path, "TYPICODE");
+
+		assertTrue(read.isPresent());
+		assertEquals(3, read.get().size());
+		assertEquals(snapshot.loadedAt().toEpochMilli(), read.get().loadedAt().toEpochMilli());
+		assertEquals("José Ñandú", read.get().find(3).getName());
+		assertEquals("Sincere@april.biz", read.get().find(1).getEmail());
+		assertNull(read.get().find(4));
+	}
+
+	@Test
+	void rejectsCorruptOrForeignFile() throws Exception {
+		Path path = tempDir.resolve("people.bin");
+		PeopleSnapshotFile.write(PeopleSnapshot.of(List.of(
+				new PeopleResponse(1, "Leanne Graham", "Sincere@april.biz"))), "TYPICODE", path);
+
+		assertTrue(PeopleSnapshotFile.read(path, "DUMMY").isEmpty());
+
+		try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+			file.seek(file.length() - 1);
+			file.write('x');
+		}
+		assertTrue(PeopleSnapshotFile.read(path, "TYPICODE").isEmpty());
+		assertTrue(PeopleSnapshotFile.read(tempDir.resolve("missing.bin"), "TYPICODE").isEmpty());
+	}
+}